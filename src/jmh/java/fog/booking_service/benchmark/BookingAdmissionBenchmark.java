@@ -0,0 +1,132 @@
+package fog.booking_service.benchmark;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.dto.BookingListResponse;
+import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.repositoroy.BatchJobStateRepository;
+import fog.booking_service.repositoroy.BookingArchiveRepository;
+import fog.booking_service.repositoroy.BookingIdempotencyRepository;
+import fog.booking_service.repositoroy.BookingRepository;
+import fog.booking_service.repositoroy.NotificationOutboxRepository;
+import fog.booking_service.repositoroy.SlotCapacityRepository;
+import fog.booking_service.service.BookingIdempotencyStore;
+import fog.booking_service.service.BookingMetrics;
+import fog.booking_service.service.BookingQueryService;
+import fog.booking_service.service.BookingService;
+import fog.booking_service.service.BookingStateCodeRegistry;
+import fog.booking_service.service.SeatAvailabilityCache;
+import fog.booking_service.service.SeatOccupancyLedger;
+import fog.booking_service.service.SlotCapacityAllocator;
+import fog.booking_service.service.SoldOutSlotRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BookingService 벤치마크 - DB 없이 서비스 계층 비용만 측정
+ * makeBooking: 좌석 확인 (admissionMode, ledger 는 원장 확인 후 차감) + 예약 엔티티 생성/저장 호출 + 이벤트 발행 (리포지토리는 ID 만 채우는 인메모리 대역)
+ *   SLOT_CAPACITY 조건부 UPDATE 는 항상 성공하는 대역이므로 DB 왕복 비용은 포함되지 않음
+ * getBookingList: 커서/상태 검증 + 조회 결과 행(Object[])을 BookingListResponse 로 매핑 (JPQL 생성자 프로젝션과 같은 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingAdmissionBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"slot-capacity", "ledger"})
+    private String admissionMode;
+
+    private BookingService bookingService;
+    private BookingQueryService bookingQueryService;
+    private SQSBookingRequest request;
+    private List<Object[]> bookingRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AtomicLong sequence = new AtomicLong();
+        LocalDateTime bookingDate = LocalDateTime.of(2025, 9, 1, 12, 0);
+        bookingRows = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            bookingRows.add(new Object[]{(long) i, bookingDate.minusHours(i), "store-" + (i % 10), "CONFIRMED"});
+        }
+
+        BookingRepository bookingRepository = InMemoryStubs.repository(BookingRepository.class, Map.of(
+                "saveAndFlush", args -> {
+                    Booking booking = (Booking) args[0];
+                    booking.setBookingNum(sequence.incrementAndGet());
+                    return booking;
+                },
+                "sumCountByBookingDate", args -> 0,
+                "findBookingList", args -> {
+                    int limit = ((Limit) args[2]).max();
+                    List<BookingListResponse> page = new ArrayList<>(limit);
+                    for (int i = 0; i < limit && i < bookingRows.size(); i++) {
+                        Object[] row = bookingRows.get(i);
+                        page.add(new BookingListResponse((Long) row[0], (LocalDateTime) row[1], (String) row[2], (String) row[3]));
+                    }
+                    return page;
+                }));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BookingStateCodeRegistry stateCodes = InMemoryStubs.stateCodeRegistry();
+        SeatOccupancyLedger ledger = new SeatOccupancyLedger(bookingRepository);
+        ReflectionTestUtils.setField(ledger, "ttlMillis", 2000L);
+
+        bookingService = new BookingService(
+                bookingRepository,
+                stateCodes,
+                InMemoryStubs.repository(NotificationOutboxRepository.class, Map.of("save", args -> args[0])),
+                ledger,
+                // 트랜잭션 없이 호출되므로 @TransactionalEventListener(fallbackExecution) 와 같이 바로 원장에 반영
+                event -> ledger.onOccupancyChanged((SlotOccupancyChangedEvent) event),
+                (userId, result) -> { },
+                InMemoryStubs.repository(BatchJobStateRepository.class, Map.of()),
+                new TransactionTemplate(),
+                new BookingMetrics(meterRegistry),
+                new SlotCapacityAllocator(
+                        InMemoryStubs.repository(SlotCapacityRepository.class, Map.of("decrement", args -> 1)),
+                        bookingRepository, null),
+                new SoldOutSlotRegistry(meterRegistry),
+                // makeBooking 은 멱등 키/대기열을 다루지 않음 (handleBookingRequest 에서 처리)
+                new BookingIdempotencyStore(InMemoryStubs.repository(BookingIdempotencyRepository.class, Map.of()), event -> { }, meterRegistry),
+                null);
+        bookingQueryService = new BookingQueryService(bookingRepository,
+                InMemoryStubs.repository(BookingArchiveRepository.class, Map.of()), stateCodes, new SeatAvailabilityCache(bookingRepository, meterRegistry));
+        ReflectionTestUtils.setField(bookingQueryService, "maxBookingListPageSize", 100);
+        ReflectionTestUtils.setField(bookingService, "admissionMode", admissionMode);
+
+        request = new SQSBookingRequest();
+        request.setUserId("7b2c5e0e-4d1f-4a55-9d0b-1f3c9f0c1a2b");
+        request.setUserName("potato");
+        request.setStoreId("store-1");
+        request.setBookingDate(bookingDate);
+        request.setCount(2);
+        request.setSeats(Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public Booking makeBooking() {
+        return bookingService.makeBooking(request);
+    }
+
+    @Benchmark
+    public List<BookingListResponse> getBookingList() {
+        return bookingQueryService.getBookingList(request.getUserId(), "CONFIRMED", null, null, pageSize, false);
+    }
+}
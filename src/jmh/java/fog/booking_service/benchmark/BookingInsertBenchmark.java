@@ -0,0 +1,103 @@
+package fog.booking_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 INSERT 경로 벤치마크 - 시퀀스 블록 크기별 (allocationSize 1: 기존, 50: pooled-lo)
+ * 인메모리 H2(Oracle 모드)를 사용하고, 실제 Oracle 과의 차이는 DB 왕복마다 roundTripMicros 만큼의 지연으로 흉내낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    @Param({"0", "500"})
+    private long roundTripMicros;
+
+    private Connection connection;
+    private PreparedStatement nextVal;
+    private PreparedStatement insert;
+    private final Timestamp bookingDate = Timestamp.valueOf(LocalDateTime.of(2025, 9, 1, 12, 0));
+
+    // pooled-lo 상태 - 현재 블록에서 다음에 할당할 ID 와 블록 끝
+    private long nextId;
+    private long blockEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:booking-insert;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE SEQUENCE BOOKING_BOOKING_NUM_SEQ START WITH 1 INCREMENT BY " + allocationSize);
+            statement.execute("CREATE TABLE BOOKING (BOOKING_NUM NUMBER(19) PRIMARY KEY, BOOKING_DATE TIMESTAMP NOT NULL, "
+                    + "USER_ID VARCHAR2(50) NOT NULL, STORE_ID VARCHAR2(20) NOT NULL, BOOKING_STATE_CODE NUMBER(10), COUNT NUMBER(10) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        nextVal = connection.prepareStatement("SELECT BOOKING_BOOKING_NUM_SEQ.NEXTVAL FROM DUAL");
+        insert = connection.prepareStatement("INSERT INTO BOOKING (BOOKING_NUM, BOOKING_DATE, USER_ID, STORE_ID, BOOKING_STATE_CODE, COUNT) "
+                + "VALUES (?, ?, ?, ?, 0, ?)");
+        nextId = 0;
+        blockEnd = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * 예약 1건 저장 (ID 할당 + INSERT + 커밋)
+     */
+    @Benchmark
+    public long insertBooking() throws SQLException {
+        long bookingNum = allocateId();
+        insert.setLong(1, bookingNum);
+        insert.setTimestamp(2, bookingDate);
+        insert.setString(3, "user-1");
+        insert.setString(4, "store-1");
+        insert.setInt(5, 2);
+        roundTrip();
+        insert.executeUpdate();
+        roundTrip();
+        connection.commit();
+        return bookingNum;
+    }
+
+    private long allocateId() throws SQLException {
+        if (nextId >= blockEnd) {
+            roundTrip();
+            try (ResultSet rs = nextVal.executeQuery()) {
+                rs.next();
+                nextId = rs.getLong(1);
+            }
+            blockEnd = nextId + allocationSize;
+        }
+        return nextId++;
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros == 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
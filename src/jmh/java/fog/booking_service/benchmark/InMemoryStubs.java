@@ -0,0 +1,58 @@
+package fog.booking_service.benchmark;
+
+import fog.booking_service.domain.BookingStateCode;
+import fog.booking_service.repositoroy.BookingStateCodeRepository;
+import fog.booking_service.service.BookingStateCodeRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 인메모리 대역 - Oracle(JPA 리포지토리)을 메서드 이름별 람다로 대체한다.
+ * 정의하지 않은 메서드를 호출하면 UnsupportedOperationException
+ */
+final class InMemoryStubs {
+
+    private InMemoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> handler = methods.get(method.getName());
+            if (handler != null) {
+                return handler.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "(in-memory)";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        });
+    }
+
+    /**
+     * BOOKING_STATE_CODE 기본 데이터(CONFIRMED, CANCELED, COMPLETED)를 적재한 레지스트리
+     */
+    static BookingStateCodeRegistry stateCodeRegistry() {
+        List<BookingStateCode> stateCodes = List.of(
+                stateCode(BookingStateCodeRegistry.CONFIRMED, "CONFIRMED"),
+                stateCode(BookingStateCodeRegistry.CANCELED, "CANCELED"),
+                stateCode(BookingStateCodeRegistry.COMPLETED, "COMPLETED"));
+        BookingStateCodeRegistry registry = new BookingStateCodeRegistry(
+                repository(BookingStateCodeRepository.class, Map.of("findAll", args -> stateCodes)));
+        ReflectionTestUtils.invokeMethod(registry, "load");
+        return registry;
+    }
+
+    private static BookingStateCode stateCode(int code, String name) {
+        BookingStateCode stateCode = new BookingStateCode();
+        stateCode.setBookingStateCode(code);
+        stateCode.setStateName(name);
+        return stateCode;
+    }
+}
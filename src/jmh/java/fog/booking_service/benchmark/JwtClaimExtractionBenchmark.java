@@ -0,0 +1,131 @@
+package fog.booking_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fog.booking_service.config.CognitoJwtVerifier;
+import fog.booking_service.config.JwtAuthenticationFilter;
+import fog.booking_service.config.JwtClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 클레임 추출 벤치마크
+ * legacyObjectMapper: 기존 방식 (요청마다 ObjectMapper 생성 + split + HashMap 파싱, 서명 검증 없음)
+ * verify: CognitoJwtVerifier 서명 검증 + 스트리밍 파싱 (캐시 미스 비용)
+ * filterCached: JwtAuthenticationFilter 전체 경로 (검증된 토큰 캐시 적중)
+ * Cognito JWKS 는 벤치마크에서 만든 RSA 키로 응답하는 RestTemplate 대역으로 대체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtClaimExtractionBenchmark {
+
+    private static final String USER_POOL_ID = "ap-northeast-2_benchmark";
+    private static final String KID = "benchmark-key";
+
+    private String token;
+    private CognitoJwtVerifier verifier;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString(("{\"kid\":\"" + KID + "\",\"alg\":\"RS256\"}").getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"sub\":\"7b2c5e0e-4d1f-4a55-9d0b-1f3c9f0c1a2b\",\"email_verified\":true,"
+                + "\"iss\":\"https://cognito-idp.ap-northeast-2.amazonaws.com/" + USER_POOL_ID + "\","
+                + "\"cognito:username\":\"potato\",\"origin_jti\":\"0f8e2a3c-1111-2222-3333-444455556666\","
+                + "\"aud\":\"3n4b5urk1ft4fl3mg5e62d9ado\",\"event_id\":\"a1b2c3d4-aaaa-bbbb-cccc-ddddeeeeffff\","
+                + "\"token_use\":\"id\",\"auth_time\":1756000000,\"phone_number\":\"+821012345678\","
+                + "\"exp\":" + Instant.now().plusSeconds(86400).getEpochSecond() + ",\"iat\":1756000000,"
+                + "\"jti\":\"9e8d7c6b-5555-6666-7777-888899990000\"}").getBytes(StandardCharsets.UTF_8));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        token = header + "." + payload + "." + encoder.encodeToString(signature.sign());
+
+        Map<String, Object> jwks = Map.of("keys", List.of(Map.of(
+                "kid", KID, "kty", "RSA", "alg", "RS256",
+                "n", encoder.encodeToString(unsigned(publicKey.getModulus())),
+                "e", encoder.encodeToString(unsigned(publicKey.getPublicExponent())))));
+        RestTemplate jwksEndpoint = new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+                return (T) jwks;
+            }
+        };
+
+        verifier = new CognitoJwtVerifier(jwksEndpoint);
+        ReflectionTestUtils.setField(verifier, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(verifier, "userPoolId", USER_POOL_ID);
+        ReflectionTestUtils.setField(verifier, "jwksRefreshIntervalMillis", 60000L);
+
+        filter = new JwtAuthenticationFilter(verifier, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "tokenCacheMaximumSize", 10000L);
+        ReflectionTestUtils.invokeMethod(filter, "initTokenCache");
+
+        request = new MockHttpServletRequest("GET", "/api/bookings/1");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object legacyObjectMapper() throws Exception {
+        String payloadJson = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Object> payloadMap = mapper.readValue(payloadJson, HashMap.class);
+        return payloadMap.get("cognito:username");
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public Object filterCached() throws Exception {
+        // OncePerRequestFilter 의 중복 실행 방지 속성이 남지 않도록 매번 새 체인/응답 사용
+        request.removeAttribute(JwtAuthenticationFilter.class.getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0 && bytes.length > 1) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,50 @@
+package fog.booking_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import fog.booking_service.dto.SQSBookingRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQSBookingRequest 직렬화/역직렬화 벤치마크 - SqsTemplate 전송/리스너 수신 시 JSON 변환 비용
+ * ObjectMapper 는 Spring Boot 기본값과 같이 JavaTimeModule 을 등록하고 재사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqsBookingRequestSerdeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private SQSBookingRequest request;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        request = new SQSBookingRequest();
+        request.setUserId("7b2c5e0e-4d1f-4a55-9d0b-1f3c9f0c1a2b");
+        request.setUserName("potato");
+        request.setStoreId("store-1");
+        request.setBookingDate(LocalDateTime.of(2025, 9, 1, 12, 0));
+        request.setCount(2);
+        request.setSeats(40);
+        json = objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public SQSBookingRequest deserialize() throws Exception {
+        return objectMapper.readValue(json, SQSBookingRequest.class);
+    }
+}
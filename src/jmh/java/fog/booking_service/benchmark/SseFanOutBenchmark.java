@@ -0,0 +1,68 @@
+package fog.booking_service.benchmark;
+
+import fog.booking_service.dto.BookingStatusMessage;
+import fog.booking_service.service.BookingMetrics;
+import fog.booking_service.service.SseConnectionHub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 결과 전송 벤치마크 - users 명이 각각 connectionsPerUser 개의 연결을 열고, 모두에게 결과를 보내 연결이 닫힐 때까지
+ * 서블릿 컨테이너 없이 SseEmitter 를 사용하므로 네트워크 쓰기 비용은 포함되지 않음 (큐 적재/전송 스레드 전달/정리 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SseFanOutBenchmark {
+
+    @Param({"100", "1000"})
+    private int users;
+
+    @Param({"1", "3"})
+    private int connectionsPerUser;
+
+    private SseConnectionHub hub;
+    private String[] userIds;
+    private final BookingStatusMessage result = new BookingStatusMessage("success", "예약이 성공적으로 완료되었습니다.", 1L);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hub = new SseConnectionHub(meterRegistry, new BookingMetrics(meterRegistry));
+        ReflectionTestUtils.setField(hub, "timeoutMillis", 600000L);
+        ReflectionTestUtils.setField(hub, "queueCapacity", 16);
+        ReflectionTestUtils.setField(hub, "senderThreads", 2);
+        ReflectionTestUtils.invokeMethod(hub, "init");
+        userIds = new String[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = "user-" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(hub, "shutdown");
+    }
+
+    @Benchmark
+    public int connectAndFanOut() {
+        for (String userId : userIds) {
+            for (int i = 0; i < connectionsPerUser; i++) {
+                hub.connect(userId);
+            }
+        }
+        for (String userId : userIds) {
+            hub.sendAndComplete(userId, result);
+        }
+        while (hub.getOpenConnections() > 0) {
+            Thread.onSpinWait();
+        }
+        return users;
+    }
+}
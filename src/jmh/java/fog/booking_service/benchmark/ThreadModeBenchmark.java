@@ -0,0 +1,71 @@
+package fog.booking_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 스레드 모드 벤치마크 - concurrency 건의 블로킹 작업(Cognito/SNS/가게 서비스 호출 대기 latencyMs)을 동시에 처리
+ * platform: Tomcat 기본 최대 스레드 수(200)의 고정 풀, virtual: 작업마다 가상 스레드 (Java 21 필요, -PjmhJvm=<jdk21>/bin/java)
+ * 메모리 비교는 -PjmhProfilers=gc (할당량) 로 확인 - 플랫폼 스레드 스택(기본 1MB 예약)은 힙 밖이므로 별도
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threadMode;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"10"})
+    private long latencyMs;
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(threadMode)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("가상 스레드는 Java 21 이상 필요: " + Runtime.version() + " (-PjmhJvm=<jdk21>/bin/java 로 실행)");
+            }
+            executor = new VirtualThreadTaskExecutor("benchmark-vt-");
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public int blockingCalls() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            futures[i] = CompletableFuture.runAsync(this::blockingCall, executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures.length;
+    }
+
+    private void blockingCall() {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+    }
+}
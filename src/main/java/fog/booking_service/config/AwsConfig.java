@@ -1,8 +1,11 @@
 package fog.booking_service.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 import software.amazon.awssdk.services.sns.SnsClient;
@@ -16,6 +19,20 @@ public class AwsConfig {
                 .build();
     }
 
+    /**
+     * 예약 결과 팬아웃(SnsBookingResultBus)용 - 토픽 리전이 문자 발송용 snsClient(도쿄)와 다를 수 있어 따로 구성
+     * 자격 증명은 SQS 클라이언트와 같은 Spring Cloud AWS AwsCredentialsProvider, 이름으로 지정한 곳에만 주입 (snsClient 주입에 영향 없음)
+     */
+    @Bean(defaultCandidate = false)
+    @ConditionalOnProperty(name = "booking.result-bus.type", havingValue = "sns")
+    public SnsClient resultBusSnsClient(AwsCredentialsProvider credentialsProvider,
+                                        @Value("${booking.result-bus.region:ap-northeast-2}") String region) {
+        return SnsClient.builder()
+                .credentialsProvider(credentialsProvider)
+                .region(Region.of(region))
+                .build();
+    }
+
     @Bean
     public CognitoIdentityProviderClient cognitoClient() {
         return CognitoIdentityProviderClient.builder()
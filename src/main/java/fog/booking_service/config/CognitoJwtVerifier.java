@@ -0,0 +1,208 @@
+package fog.booking_service.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cognito ID 토큰 검증
+ * User Pool 의 JWKS 공개키를 메모리에 두고 RS256 서명, 발급자(iss), 토큰 종류(token_use=id), 앱 클라이언트(aud), 만료(exp)를 확인한 뒤
+ * 필요한 클레임만 스트리밍으로 읽는다.
+ * 처음 보는 kid 가 오면 최소 간격을 두고 JWKS 를 다시 받는다 (키 교체 대비).
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CognitoJwtVerifier {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final RestTemplate restTemplate;
+
+    @Value("${aws.cognito.region:ap-northeast-2}")
+    private String region;
+
+    @Value("${aws.cognito.user-pool-id}")
+    private String userPoolId;
+
+    // ID 토큰의 aud (User Pool 앱 클라이언트 ID)
+    @Value("${aws.cognito.client-id}")
+    private String clientId;
+
+    @Value("${aws.cognito.jwks-refresh-interval-ms:60000}")
+    private long jwksRefreshIntervalMillis;
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long jwksLoadedAt;
+    private final ReentrantLock jwksLock = new ReentrantLock();
+
+    /**
+     * 토큰 검증 후 클레임 반환 - 검증 실패 시 BadCredentialsException
+     */
+    public JwtClaims verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new BadCredentialsException("JWT 형식이 아닙니다.");
+        }
+
+        try {
+            String kid = readKid(BASE64_URL.decode(token.substring(0, firstDot)));
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(findPublicKey(kid));
+            signature.update(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(BASE64_URL.decode(token.substring(secondDot + 1)))) {
+                throw new BadCredentialsException("JWT 서명이 올바르지 않습니다.");
+            }
+            return readClaims(BASE64_URL.decode(token.substring(firstDot + 1, secondDot)));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            throw new BadCredentialsException("JWT 검증 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String readKid(byte[] headerJson) throws IOException {
+        String kid = null;
+        String alg = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(headerJson)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "kid" -> kid = parser.getText();
+                    case "alg" -> alg = parser.getText();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        if (!"RS256".equals(alg) || kid == null) {
+            throw new BadCredentialsException("지원하지 않는 JWT 헤더입니다: alg=" + alg);
+        }
+        return kid;
+    }
+
+    private JwtClaims readClaims(byte[] payloadJson) throws IOException {
+        String sub = null;
+        String username = null;
+        String issuer = null;
+        String tokenUse = null;
+        String audience = null;
+        long exp = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(payloadJson)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                switch (name) {
+                    case "sub" -> sub = parser.getText();
+                    case "cognito:username" -> username = parser.getText();
+                    case "iss" -> issuer = parser.getText();
+                    case "token_use" -> tokenUse = parser.getText();
+                    case "aud" -> audience = parser.getText();
+                    case "exp" -> exp = parser.getLongValue();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        if (!issuer().equals(issuer)) {
+            throw new BadCredentialsException("JWT 발급자가 올바르지 않습니다: " + issuer);
+        }
+        if (!"id".equals(tokenUse)) {
+            throw new BadCredentialsException("ID 토큰이 아닙니다: token_use=" + tokenUse);
+        }
+        if (!clientId.equals(audience)) {
+            throw new BadCredentialsException("JWT 대상(aud)이 올바르지 않습니다: " + audience);
+        }
+        if (sub == null || username == null || exp == 0) {
+            throw new BadCredentialsException("JWT 필수 클레임이 없습니다.");
+        }
+        if (exp <= Instant.now().getEpochSecond()) {
+            throw new BadCredentialsException("만료된 JWT 입니다.");
+        }
+        return new JwtClaims(sub, username, exp);
+    }
+
+    private void expectObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new BadCredentialsException("JWT JSON 형식이 아닙니다.");
+        }
+    }
+
+    private PublicKey findPublicKey(String kid) throws GeneralSecurityException {
+        PublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null) {
+            publicKey = reloadAndFind(kid);
+        }
+        if (publicKey == null) {
+            throw new BadCredentialsException("알 수 없는 JWT 키입니다: kid=" + kid);
+        }
+        return publicKey;
+    }
+
+    private PublicKey reloadAndFind(String kid) throws GeneralSecurityException {
+        // JWKS HTTP 조회를 감싸므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드에 고정되지 않음)
+        jwksLock.lock();
+        try {
+            // 락을 기다리는 동안 다른 스레드가 적재했을 수 있으므로 다시 확인
+            PublicKey publicKey = publicKeys.get(kid);
+            if (publicKey == null && System.currentTimeMillis() - jwksLoadedAt >= jwksRefreshIntervalMillis) {
+                loadJwks();
+                publicKey = publicKeys.get(kid);
+            }
+            return publicKey;
+        } finally {
+            jwksLock.unlock();
+        }
+    }
+
+    private void loadJwks() throws GeneralSecurityException {
+        jwksLoadedAt = System.currentTimeMillis();
+        String jwksUrl = issuer() + "/.well-known/jwks.json";
+        log.info("Cognito JWKS 조회: {}", jwksUrl);
+        Map<?, ?> jwks = restTemplate.getForObject(jwksUrl, Map.class);
+        if (jwks == null || !(jwks.get("keys") instanceof List<?> keys)) {
+            log.warn("Cognito JWKS 응답이 비어 있습니다.");
+            return;
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Object key : keys) {
+            Map<?, ?> jwk = (Map<?, ?>) key;
+            if (!"RSA".equals(jwk.get("kty"))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, BASE64_URL.decode((String) jwk.get("n")));
+            BigInteger exponent = new BigInteger(1, BASE64_URL.decode((String) jwk.get("e")));
+            loaded.put((String) jwk.get("kid"), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        publicKeys = Map.copyOf(loaded);
+        log.info("Cognito JWKS 적재 완료: kids={}", loaded.keySet());
+    }
+
+    private String issuer() {
+        return "https://cognito-idp." + region + ".amazonaws.com/" + userPoolId;
+    }
+}
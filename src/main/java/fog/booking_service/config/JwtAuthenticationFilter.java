@@ -1,36 +1,70 @@
 package fog.booking_service.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Base64.Encoder BASE64 = Base64.getEncoder().withoutPadding();
+
+    private final CognitoJwtVerifier jwtVerifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.cognito.token-cache.maximum-size:100000}")
+    private long tokenCacheMaximumSize;
+
+    // 토큰 SHA-256 다이제스트 -> 검증된 클레임 (토큰의 exp 시각에 만료)
+    // 원본 토큰을 힙에 남기지 않고, 키 크기도 토큰 길이와 무관하게 고정
+    private Cache<String, JwtClaims> verifiedTokens;
+
+    @PostConstruct
+    void initTokenCache() {
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaximumSize)
+                .expireAfter(Expiry.creating((String digest, JwtClaims claims) ->
+                        Duration.ofSeconds(Math.max(0, claims.exp() - Instant.now().getEpochSecond()))))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-token");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String path = request.getRequestURI();
-        log.info("auth filter");
 
         //특정 경로는 토큰 검증 스킵
-        if (path.startsWith("/bookings/seats") || path.equals("/health")) {
+        if (path.startsWith("/bookings/seats") || path.equals("/health") || path.startsWith("/actuator/")) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -39,20 +73,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             try {
-                // 토큰의 페이로드 부분 디코딩
-                String payloadJson = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
-
-                // ObjectMapper를 사용하여 JSON 파싱
-                ObjectMapper mapper = new ObjectMapper();
-                Map<String, Object> payloadMap = mapper.readValue(payloadJson, HashMap.class);
-
-                // "cognito:username"과 "sub" 클레임 추출
-                String cognitoUsername = (String) payloadMap.get("cognito:username");
-                String sub = (String) payloadMap.get("sub");
+                // 캐시에 없을 때만 서명 검증 + 클레임 파싱
+                String digest = digest(token);
+                JwtClaims claims = verifiedTokens.getIfPresent(digest);
+                if (claims == null) {
+                    claims = jwtVerifier.verify(token);
+                    verifiedTokens.put(digest, claims);
+                }
 
-                if (cognitoUsername != null && sub != null) {
+                if (!claims.isExpired(Instant.now().getEpochSecond())) {
                     // CustomUserDetails 객체 생성 (username에 cognitoUsername, sub에 sub 값 저장)
-                    UserDetails userDetails = new CustomUserDetails(cognitoUsername, sub, Collections.emptyList());
+                    UserDetails userDetails = new CustomUserDetails(claims.username(), claims.sub(), Collections.emptyList());
 
                     // Authentication 객체 생성 및 SecurityContext에 저장
                     UsernamePasswordAuthenticationToken authentication =
@@ -60,6 +91,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
 
+            } catch (AuthenticationException e) {
+                log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
             } catch (Exception e) {
                 log.error("JWT 토큰 처리 실패", e);
                 SecurityContextHolder.clearContext();
@@ -67,4 +101,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static String digest(String token) throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        return BASE64.encodeToString(hash);
+    }
+}
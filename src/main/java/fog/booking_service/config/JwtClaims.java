@@ -0,0 +1,14 @@
+package fog.booking_service.config;
+
+/**
+ * 검증된 Cognito ID 토큰에서 사용하는 클레임
+ * @param sub cognito sub (UUID)
+ * @param username cognito:username
+ * @param exp 만료 시각 (epoch seconds)
+ */
+public record JwtClaims(String sub, String username, long exp) {
+
+    public boolean isExpired(long nowEpochSeconds) {
+        return exp <= nowEpochSeconds;
+    }
+}
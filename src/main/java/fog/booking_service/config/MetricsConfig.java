@@ -0,0 +1,40 @@
+package fog.booking_service.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Configuration
+@Slf4j
+public class MetricsConfig {
+
+    /**
+     * booking.* 메트릭의 store 태그 값 개수 제한 - 상한을 넘는 가게는 store=other 로 합산
+     */
+    @Bean
+    public MeterFilter storeTagCardinalityFilter(@Value("${booking.metrics.max-store-tags:200}") int maxStoreTags) {
+        Set<String> stores = ConcurrentHashMap.newKeySet();
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                String store = id.getTag("store");
+                if (store == null || !id.getName().startsWith("booking.") || stores.contains(store)) {
+                    return id;
+                }
+                if (stores.size() < maxStoreTags) {
+                    stores.add(store);
+                    return id;
+                }
+                log.debug("store 태그 상한 초과로 other 로 집계: store={}", store);
+                return id.withTag(Tag.of("store", "other"));
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package fog.booking_service.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 대기 DB 복제 지연 확인 - 주기적으로 lag-query(초 단위 지연)를 실행해 허용치 이내일 때만 읽기 라우팅 허용
+ * 마지막 확인이 실패했거나 오래되었으면(확인 주기 3회 이상) 사용하지 않음
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long checkIntervalMillis;
+
+    private volatile double lagMillis = Double.NaN;
+    private volatile long checkedAt;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis, long checkIntervalMillis, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(Math.max(1, (int) (checkIntervalMillis / 1000)));
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+        Gauge.builder("booking.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("대기 DB 복제 지연 (ms, 확인 실패 시 NaN)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("booking.datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션의 대기 DB 라우팅 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable && System.currentTimeMillis() - checkedAt < checkIntervalMillis * 3;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Number lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            lagMillis = lagSeconds == null ? Double.NaN : lagSeconds.doubleValue() * 1000;
+            usable = lagSeconds != null && lagMillis <= maxLagMillis;
+        } catch (Exception e) {
+            lagMillis = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("대기 DB 복제 지연 확인 실패: {}", e.getMessage());
+            }
+        }
+        checkedAt = System.currentTimeMillis();
+        if (wasUsable != usable) {
+            log.info("대기 DB 읽기 라우팅 {}: lag={}ms, max={}ms", usable ? "사용" : "중지 (주 DB 로 전환)", lagMillis, maxLagMillis);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package fog.booking_service.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,6 +19,10 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // actuator 전용 포트 (application-prod.yml 의 management.server.port), 미설정이면 앱 포트와 같음
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         log.info("filter chain");
@@ -25,7 +30,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용하지 않음
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/bookings/seats/**", "/health", "/api/bookings/booking-status/**").permitAll() // 특정 경로만 허용
+                        .requestMatchers("/api/bookings/seats/**", "/health", "/api/bookings/booking-status/**", "/actuator/health").permitAll() // 특정 경로만 허용
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll() // 내부 전용 actuator 포트 (prometheus 스크레이프)
+                        .requestMatchers("/error").permitAll() // 예외 응답(400/403/409 등)이 오류 디스패치에서 403 으로 바뀌지 않도록
                         .anyRequest().authenticated() // 나머지 모든 요청은 인증 필요
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // 커스텀 JWT 필터 추가
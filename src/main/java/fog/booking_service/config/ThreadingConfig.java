@@ -0,0 +1,65 @@
+package fog.booking_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * 실행 스레드 모드 - spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행될 때만 가상 스레드 사용
+ * (Java 21 미만에서 켜면 시작 실패 - sqsListenerSyncExecutor 참고)
+ * (Tomcat 요청 스레드, @Scheduled 는 Spring Boot 가 전환하고, SQS 리스너 처리와 알림 발송은 여기서 전환)
+ */
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    /**
+     * SQS 리스너 처리 실행기 - 가상 스레드 모드: 메시지마다 가상 스레드에서 처리
+     * (Spring Cloud AWS 컨테이너 스레드는 MessageExecutionThread 여야 하므로 리스너에서 넘겨 실행)
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor sqsListenerExecutor() {
+        return new VirtualThreadTaskExecutor("sqs-listener-");
+    }
+
+    /**
+     * SQS 리스너 처리 실행기 - 플랫폼 스레드 모드: 컨테이너 스레드에서 그대로 처리 (기존과 동일)
+     * 가상 스레드를 켰는데 Java 21 미만이라 플랫폼 모드가 된 경우에는 조용히 넘어가지 않고 시작을 중단
+     */
+    @Bean(name = "sqsListenerExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor sqsListenerSyncExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsRequested) {
+        if (virtualThreadsRequested) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true 이지만 Java " + Runtime.version().feature()
+                    + " 에서 실행 중입니다. 가상 스레드는 Java 21 이상이 필요합니다. "
+                    + "(이미지: docker build --build-arg JRE_VERSION=21, 아니면 BOOKING_VIRTUAL_THREADS=false)");
+        }
+        return new SyncTaskExecutor();
+    }
+
+    /**
+     * 가상 스레드 고정(pinning) 점검
+     * ojdbc10(19c)은 synchronized 블록 안에서 소켓 I/O 를 하므로 JDBC 호출 동안 가상 스레드가 캐리어 스레드를 점유한다.
+     * 동시 JDBC 호출 수(Hikari 최대 풀) 가 캐리어 수 이상이면 나머지 가상 스레드(요청, SSE 등)가 멈출 수 있다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ApplicationRunner virtualThreadPinningCheck(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        return args -> {
+            int parallelism = Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+            log.info("가상 스레드 모드: 캐리어 스레드={}, DB 최대 커넥션={}", parallelism, maximumPoolSize);
+            if (parallelism <= maximumPoolSize) {
+                log.warn("JDBC 호출이 캐리어 스레드를 모두 점유할 수 있습니다. -Djdk.virtualThreadScheduler.parallelism 을 {} 보다 크게 설정하세요. "
+                        + "(고정 위치 확인: -Djdk.tracePinnedThreads=short)", maximumPoolSize);
+            }
+        };
+    }
+}
@@ -1,28 +1,33 @@
 package fog.booking_service.controller;
 
 import fog.booking_service.config.CustomUserDetails;
-import fog.booking_service.domain.Booking;
 import fog.booking_service.dto.BookingListResponse;
 import fog.booking_service.dto.BookingRequest;
 import fog.booking_service.dto.BookingResponse;
 import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.dto.SlotOccupancyResponse;
 import fog.booking_service.exception.AccessDeniedException;
+import fog.booking_service.exception.BadRequestException;
+import fog.booking_service.exception.BookingConflictException;
+import fog.booking_service.service.BookingMetrics;
+import fog.booking_service.service.BookingQueryService;
+import fog.booking_service.service.BookingRequestSender;
 import fog.booking_service.service.BookingService;
-import io.awspring.cloud.sqs.operations.SqsTemplate;
+import fog.booking_service.service.BookingWaitlistService;
+import fog.booking_service.service.SoldOutSlotRegistry;
+import fog.booking_service.service.SseConnectionHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 @RestController
 @Slf4j
@@ -30,13 +35,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequestMapping("/api")
 public class BookingController {
 
-    private final BookingService bookingService;
-    private final SqsTemplate sqsTemplate;
-
-    @Value("${aws.sqs.queue.booking-request}")
-    private String bookingRequestQueue;
+    // Idempotency-Key 헤더 형식 (UUID 등) - SQS 중복 제거 ID 로도 사용
+    private static final Pattern IDEMPOTENCY_KEY = Pattern.compile("[A-Za-z0-9_-]{1,64}");
 
-    public static Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final BookingService bookingService;
+    private final BookingQueryService bookingQueryService;
+    private final BookingRequestSender bookingRequestSender;
+    private final SseConnectionHub sseConnectionHub;
+    private final BookingMetrics bookingMetrics;
+    private final SoldOutSlotRegistry soldOutSlots;
+    private final BookingWaitlistService waitlistService;
 
     /**
      * SSE 연결을 위한 엔드포인트
@@ -45,19 +53,7 @@ public class BookingController {
      */
     @GetMapping("/bookings/booking-status/{userId}")
     public SseEmitter connect(@PathVariable String userId, @RequestParam String token) {
-        SseEmitter emitter = new SseEmitter(10 * 60 * 1000L); // 10분 타임아웃
-        emitters.put(userId, emitter);
-
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("connected!"));
-        } catch (IOException e) {
-            log.error("SSE connect send failed: ", e);
-        }
-
-        return emitter;
+        return sseConnectionHub.connect(userId);
     }
 
     /**
@@ -69,21 +65,41 @@ public class BookingController {
     @GetMapping("/bookings/seats/{storeId}")
     public Integer getAvailableSeats(@PathVariable String storeId, @RequestParam LocalDateTime dateTime) {
         log.info("예약된 좌석수 조회");
-        return bookingService.getAvailableSeats(storeId, dateTime);
+        return bookingQueryService.getAvailableSeats(storeId, dateTime);
+    }
+
+    /**
+     * 기간별 예약된 좌석 수 조회 - 하루/일주일 달력을 한 번에 그리기 위한 용도
+     * [from, to) 구간, 최대 7일 (booking.occupancy.max-range-days)
+     */
+    @GetMapping("/bookings/seats/{storeId}/range")
+    public SlotOccupancyResponse getSlotOccupancy(@PathVariable String storeId,
+                                                  @RequestParam LocalDateTime from, @RequestParam LocalDateTime to) {
+        log.info("기간별 예약된 좌석수 조회");
+        return bookingQueryService.getSlotOccupancy(storeId, from, to);
     }
 
     /**
      * 내 예약 목록 조회
      * URL 경로에 사용자 ID를 포함하여 받도록 수정
+     * 예약일시 최신순으로 조회 - size 와 커서를 모두 생략하면 전체 목록 (기존 클라이언트 호환)
+     * size 를 보내면 size 건씩 조회 - 다음 페이지는 마지막 항목의 bookingDate, bookingNum 을 cursorDate, cursorNum 으로 전달 (size 생략 시 기본 20건)
+     * state 로 상태 필터 (CONFIRMED, CANCELED, COMPLETED)
+     * history=true 면 보관된 지난 예약(BOOKING_ARCHIVE)도 함께 조회
      */
     @GetMapping("/bookings/users/{userId}")
-    public List<BookingListResponse> findBookingList(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable String userId) {
+    public List<BookingListResponse> findBookingList(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable String userId,
+                                                     @RequestParam(required = false) String state,
+                                                     @RequestParam(required = false) LocalDateTime cursorDate,
+                                                     @RequestParam(required = false) Long cursorNum,
+                                                     @RequestParam(required = false) Integer size,
+                                                     @RequestParam(defaultValue = "false") boolean history) {
         String loginId = userDetails.getUsername();
         if (!loginId.equals(userId)) {
             throw new SecurityException("접근 권한이 없습니다.");
         }
         log.info("예약 목록 조회 요청: userId={}", loginId);
-        return bookingService.getBookingList(userDetails.getSub());
+        return bookingQueryService.getBookingList(userDetails.getSub(), state, cursorDate, cursorNum, size, history);
     }
 
     /**
@@ -95,8 +111,9 @@ public class BookingController {
         String userId = userDetails.getSub();
         log.info("예약 상세 조회 요청: bookingNum={}, userId={}", bookingNum, userId);
 
-        // 2. 예약 정보 조회
-        BookingResponse bookingResponse = bookingService.getBookingResponse(bookingNum);
+        // 2. 예약 정보 조회 - 대기 DB 에 아직 없으면(방금 생성) 주 DB 에서 조회
+        BookingResponse bookingResponse = bookingQueryService.findBookingResponse(bookingNum)
+                .orElseGet(() -> bookingService.getBookingResponse(bookingNum));
 
         // 3. 조회된 예약 정보의 userId와 현재 로그인한 userId가 일치하는지 확인
         if (!bookingResponse.getUserId().equals(userId)) {
@@ -124,32 +141,56 @@ public class BookingController {
 
     /**
      * 예약 생성 - AWS SQS 사용
+     * Idempotency-Key 헤더를 보내면 재시도/중복 클릭이 같은 예약 요청으로 처리됨 (SQS 중복 제거 ID + 소비자 멱등 키)
+     * waitlist=true 면 좌석 초과 시 대기열에 등록되고, 취소로 좌석이 생기면 자동으로 예약 후 SSE 로 결과 전달
      */
     @PostMapping("/bookings/new")
-    public String booking(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestBody BookingRequest request) {
+    public String booking(@AuthenticationPrincipal CustomUserDetails userDetails, @RequestBody BookingRequest request,
+                          @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
         String userId = userDetails.getSub();
         request.setUserId(userId);
+        if (idempotencyKey != null && !IDEMPOTENCY_KEY.matcher(idempotencyKey).matches()) {
+            throw new BadRequestException("Idempotency-Key 는 영문, 숫자, '-', '_' 로 된 64자 이하여야 합니다.");
+        }
+
+        // 최근 좌석 초과로 거절된 슬롯이면 SQS 로 보내지 않고 바로 거절 (대기열 등록 요청은 소비자에서 등록)
+        if (!request.isWaitlist() && soldOutSlots.rejects(new SlotKey(request.getStoreId(), request.getBookingDate()), request.getCount())) {
+            log.info("좌석 초과 슬롯 즉시 거절: userId={}, storeId={}", userId, request.getStoreId());
+            bookingMetrics.outcome(request.getStoreId(), BookingMetrics.Outcome.REJECTED_SOLD_OUT);
+            throw new BookingConflictException("예약 가능한 좌석 수를 초과하였습니다.");
+        }
 
         SQSBookingRequest sqsRequest = new SQSBookingRequest();
         BeanUtils.copyProperties(request, sqsRequest);
         sqsRequest.setUserName(userDetails.getUsername());
-
-        // 고유한 메시지 그룹 ID 생성 (FIFO 큐에 필수)
-        // 동시성 제어 - 메시지 순차 처리
-        String messageGroupId = request.getStoreId() + "_" + request.getBookingDate().toString();
+        // 키는 사용자별로 구분
+        if (idempotencyKey != null) {
+            sqsRequest.setIdempotencyKey(userId + ":" + idempotencyKey);
+        }
 
         // SQS 큐로 메시지 전송
-        sqsTemplate.send(sqsSendOptions -> sqsSendOptions
-                .queue(bookingRequestQueue)
-                .payload(sqsRequest)
-                .messageDeduplicationId(UUID.randomUUID().toString())
-                .messageGroupId(messageGroupId)
-        );
+        bookingRequestSender.send(sqsRequest, sqsRequest.getIdempotencyKey() != null
+                ? sqsRequest.getIdempotencyKey()
+                : UUID.randomUUID().toString());
 
         log.info("예약 요청 SQS 큐 전송: userId={}", userId);
         return "예약 처리중입니다.";
     }
 
+    /**
+     * 예약 대기열 취소
+     */
+    @DeleteMapping("/bookings/waitlist/{storeId}")
+    public String leaveWaitlist(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable String storeId,
+                                @RequestParam LocalDateTime bookingDate) {
+        String userId = userDetails.getSub();
+        log.info("예약 대기열 취소 요청: userId={}, storeId={}, bookingDate={}", userId, storeId, bookingDate);
+        if (!waitlistService.leave(new SlotKey(storeId, bookingDate), userId)) {
+            throw new BookingConflictException("대기열에 등록된 요청이 없습니다.");
+        }
+        return "대기열에서 취소되었습니다.";
+    }
+
     /**
      * 예약 취소
      */
@@ -158,14 +199,7 @@ public class BookingController {
         String userId = userDetails.getSub();
         log.info("예약 취소 요청: userId={}, bookingNum={}", userId, bookingNum);
 
-        // 예약 취소 시 본인 예약인지 확인하는 로직 추가
-        Booking booking = bookingService.getBooking(bookingNum);
-        if (!booking.getUserId().equals(userId)) {
-            log.error("예약 취소 권한이 없습니다: userId={}, bookingOwnerId={}", userId, booking.getUserId());
-            throw new SecurityException("예약 취소 권한이 없습니다.");
-        }
-
-        bookingService.cancelBooking(bookingNum);
-        return bookingService.getBookingResponse(bookingNum);
+        // 본인 예약인지 확인은 취소 UPDATE 조건에 포함
+        return bookingService.cancelBooking(bookingNum, userId);
     }
 }
\ No newline at end of file
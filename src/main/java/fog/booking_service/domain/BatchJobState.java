@@ -0,0 +1,34 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치작업 진행 위치 (작업별 워터마크)
+ */
+@Entity
+@Table(name = "BATCH_JOB_STATE")
+@NoArgsConstructor
+@Getter
+@Setter
+public class BatchJobState {
+
+    @Id
+    @Column(name = "JOB_NAME", length = 50)
+    private String jobName;
+
+    @Column(name = "WATERMARK", nullable = false)
+    private LocalDateTime watermark;    //이 시각까지 처리 완료
+
+    public BatchJobState(String jobName, LocalDateTime watermark) {
+        this.jobName = jobName;
+        this.watermark = watermark;
+    }
+}
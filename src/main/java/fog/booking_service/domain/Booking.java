@@ -20,7 +20,7 @@ public class Booking {
     @SequenceGenerator(
             name = "BOOKING_SEQ_GENERATOR",
             sequenceName = "BOOKING_BOOKING_NUM_SEQ", // 사용자가 제시한 시퀀스 이름
-            allocationSize = 1
+            allocationSize = 50 // pooled-lo: 시퀀스 1회 조회로 50개 ID 블록 예약 (INCREMENT BY 50 필요)
     )
     @Column(name = "BOOKING_NUM")
     private Long bookingNum;
@@ -0,0 +1,43 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 예약 - 보관 기간(booking.archive.horizon-days)이 지난 COMPLETED/CANCELED 예약을 BOOKING 에서 옮겨 둔 행
+ * BookingArchiver 가 INSERT ... SELECT 로만 적재 (BOOKING_NUM 은 BOOKING 의 값 그대로)
+ */
+@Entity
+@Immutable
+@Table(name = "BOOKING_ARCHIVE")
+@NoArgsConstructor
+@Getter
+public class BookingArchive {
+
+    @Id
+    @Column(name = "BOOKING_NUM")
+    private Long bookingNum;
+
+    @Column(name = "BOOKING_DATE", nullable = false)
+    private LocalDateTime bookingDate;
+
+    @Column(name = "USER_ID", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "STORE_ID", nullable = false, length = 20)
+    private String storeId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "BOOKING_STATE_CODE", referencedColumnName = "BOOKING_STATE_CODE")
+    private BookingStateCode bookingStateCode;
+
+    @Column(name = "COUNT", nullable = false)
+    private int count;
+
+    @Column(name = "ARCHIVED_AT", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,66 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 요청 멱등 키별 처리 결과 - 같은 키로 다시 들어온 요청은 이 결과로 응답
+ * 새로 만든 행은 save 시 INSERT 로 저장 (같은 키를 동시에 처리하면 PK 위반으로 나중 트랜잭션이 롤백)
+ */
+@Entity
+@Table(name = "BOOKING_IDEMPOTENCY")
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookingIdempotency implements Persistable<String> {
+
+    @Id
+    @Column(name = "IDEMPOTENCY_KEY", length = 110)
+    private String idempotencyKey;  //유저 ID(cognito sub) + ":" + 클라이언트 Idempotency-Key
+
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private String status;          //success, failure
+
+    @Column(name = "MESSAGE", nullable = false, length = 200)
+    private String message;
+
+    @Column(name = "BOOKING_NUM")
+    private Long bookingNum;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    public BookingIdempotency(String idempotencyKey, String status, String message, Long bookingNum, LocalDateTime createdAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.status = status;
+        this.message = message;
+        this.bookingNum = bookingNum;
+        this.createdAt = createdAt;
+        this.isNew = true;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
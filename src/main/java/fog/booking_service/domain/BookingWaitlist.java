@@ -0,0 +1,65 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 슬롯별 예약 대기열 - 좌석 초과로 거절된 요청을 등록 순서(WAITLIST_ID)대로 보관
+ * 등록은 BookingWaitlistService.join 의 INSERT 한 문장으로만 (시퀀스 NEXTVAL 을 그대로 사용하므로 등록 순서 = ID 순서)
+ * 취소로 좌석이 생기면 앞에서부터 OFFERED 로 바꿔 예약 요청을 다시 보내고, 예약되면 삭제 / 다시 거절되면 WAITING 으로 복귀
+ * OFFERED 는 OFFERED_AT 부터 booking.waitlist.offer-lease-ms 동안만 유효 - 결과가 반영되지 않으면(메시지 유실 등) WAITING 으로 회수
+ */
+@Entity
+@Table(name = "BOOKING_WAITLIST")
+@NoArgsConstructor
+@Getter
+@Setter
+public class BookingWaitlist {
+
+    public static final String WAITING = "WAITING";
+    public static final String OFFERED = "OFFERED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "BOOKING_WAITLIST_SEQ_GENERATOR")
+    @SequenceGenerator(
+            name = "BOOKING_WAITLIST_SEQ_GENERATOR",
+            sequenceName = "BOOKING_WAITLIST_SEQ",
+            allocationSize = 50
+    )
+    @Column(name = "WAITLIST_ID")
+    private Long waitlistId;
+
+    @Column(name = "STORE_ID", nullable = false, length = 20)
+    private String storeId;
+
+    @Column(name = "BOOKING_DATE", nullable = false)
+    private LocalDateTime bookingDate;
+
+    @Column(name = "USER_ID", nullable = false, length = 50)
+    private String userId;
+
+    @Column(name = "USER_NAME", nullable = false, length = 50)
+    private String userName;
+
+    @Column(name = "COUNT", nullable = false)
+    private int count;          //예약 좌석 수
+
+    @Column(name = "SEATS", nullable = false)
+    private int seats;          //가게 전체 좌석 수
+
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private String status;      //WAITING, OFFERED
+
+    @Column(name = "OFFERS", nullable = false)
+    private int offers;         //예약 요청을 다시 보낸 횟수
+
+    @Column(name = "OFFERED_AT")
+    private LocalDateTime offeredAt;    //마지막 제안 시각 (WAITING 이면 null)
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+}
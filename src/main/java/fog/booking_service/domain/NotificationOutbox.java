@@ -0,0 +1,78 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 완료 알림(SMS) 아웃박스 - 예약과 같은 트랜잭션에서 저장되고 NotificationRelay 가 발송 후 삭제
+ */
+@Entity
+@Table(name = "NOTIFICATION_OUTBOX")
+@NoArgsConstructor
+@Getter
+@Setter
+public class NotificationOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "NOTIFICATION_OUTBOX_SEQ_GENERATOR")
+    @SequenceGenerator(
+            name = "NOTIFICATION_OUTBOX_SEQ_GENERATOR",
+            sequenceName = "NOTIFICATION_OUTBOX_SEQ",
+            allocationSize = 50
+    )
+    @Column(name = "OUTBOX_ID")
+    private Long outboxId;
+
+    @Column(name = "BOOKING_NUM", nullable = false)
+    private Long bookingNum;
+
+    @Column(name = "STORE_ID", nullable = false, length = 20)
+    private String storeId;
+
+    @Column(name = "BOOKING_DATE", nullable = false)
+    private LocalDateTime bookingDate;
+
+    @Column(name = "COUNT", nullable = false)
+    private int count;
+
+    @Column(name = "USER_NAME", nullable = false, length = 50)
+    private String userName;
+
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private String status;  //PENDING, FAILED
+
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;    //발송 가능 시각 (선점 시 lease 만료 시각)
+
+    @Column(name = "CLAIM_TOKEN", length = 36)
+    private String claimToken;
+
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public NotificationOutbox(Booking booking, String userName, LocalDateTime createdAt) {
+        this.bookingNum = booking.getBookingNum();
+        this.storeId = booking.getStoreId();
+        this.bookingDate = booking.getBookingDate();
+        this.count = booking.getCount();
+        this.userName = userName;
+        this.status = PENDING;
+        this.nextAttemptAt = createdAt;
+        this.createdAt = createdAt;
+    }
+}
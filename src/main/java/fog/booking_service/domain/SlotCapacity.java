@@ -0,0 +1,51 @@
+package fog.booking_service.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 가게/슬롯별 잔여 좌석 - 예약 시 조건부 UPDATE 로 차감, 취소 시 복원
+ * 행 생성은 SlotCapacityAllocator 의 JdbcTemplate INSERT 로만 - 엔티티는 조회/조건부 UPDATE 매핑용
+ */
+@Entity
+@Table(name = "SLOT_CAPACITY")
+@IdClass(SlotCapacity.SlotCapacityId.class)
+@NoArgsConstructor
+@Getter
+public class SlotCapacity {
+
+    @Id
+    @Column(name = "STORE_ID", length = 20)
+    private String storeId;
+
+    @Id
+    @Column(name = "BOOKING_DATE")
+    private LocalDateTime bookingDate;
+
+    @Column(name = "SEATS", nullable = false)
+    private int seats;          //가게 전체 좌석 수
+
+    @Column(name = "REMAINING", nullable = false)
+    private int remaining;      //예약 가능한 좌석 수
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class SlotCapacityId implements Serializable {
+        private String storeId;
+        private LocalDateTime bookingDate;
+
+        public SlotCapacityId(SlotKey slot) {
+            this.storeId = slot.storeId();
+            this.bookingDate = slot.bookingDate();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package fog.booking_service.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 슬롯 식별자 (가게 ID + 예약 시각)
+ */
+public record SlotKey(String storeId, LocalDateTime bookingDate) {
+}
@@ -0,0 +1,9 @@
+package fog.booking_service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 대상 예약 - (bookingDate, bookingNum) 순으로 조회, 청크의 마지막 bookingDate 가 보관 워터마크
+ */
+public record ArchiveCandidate(Long bookingNum, LocalDateTime bookingDate) {
+}
@@ -16,4 +16,5 @@ public class BookingRequest {
     private String storeId;             //가게 ID
     private int count;                  //예약 좌석 수
     private int seats;                  //가게 전체 좌석 수
+    private boolean waitlist;           //좌석 초과 시 대기열 등록 여부
 }
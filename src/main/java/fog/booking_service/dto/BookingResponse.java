@@ -1,5 +1,7 @@
 package fog.booking_service.dto;
 
+import fog.booking_service.domain.Booking;
+import fog.booking_service.domain.BookingArchive;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,4 +18,26 @@ public class BookingResponse {
     private String bookingState;
     private int count;
     private String userId;
+
+    public static BookingResponse of(Booking booking, String bookingState) {
+        return BookingResponse.builder()
+                .bookingNum(booking.getBookingNum())
+                .bookingDate(booking.getBookingDate())
+                .storeId(booking.getStoreId())
+                .bookingState(bookingState)
+                .count(booking.getCount())
+                .userId(booking.getUserId())
+                .build();
+    }
+
+    public static BookingResponse of(BookingArchive archived, String bookingState) {
+        return BookingResponse.builder()
+                .bookingNum(archived.getBookingNum())
+                .bookingDate(archived.getBookingDate())
+                .storeId(archived.getStoreId())
+                .bookingState(bookingState)
+                .count(archived.getCount())
+                .userId(archived.getUserId())
+                .build();
+    }
 }
@@ -0,0 +1,19 @@
+package fog.booking_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 노드 간 예약 결과 전달 메시지 - 발행한 태스크 ID, 결과를 받을 사용자 ID 와 SSE 로 보낼 결과
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingResultNotice {
+    private String origin;
+    private String userId;
+    private BookingStatusMessage result;
+}
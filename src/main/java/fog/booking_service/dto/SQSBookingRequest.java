@@ -16,4 +16,7 @@ public class SQSBookingRequest {
     private int count;                  //예약 좌석 수
     private int seats;                  //가게 전체 좌석 수
     private String userName;               //유저 ID(cognito username)
+    private boolean waitlist;           //좌석 초과 시 대기열 등록 여부
+    private Long waitlistId;            //대기열 승격 요청이면 대기열 ID
+    private String idempotencyKey;      //멱등 키 (유저 ID + ":" + Idempotency-Key 헤더, 헤더가 없으면 null)
 }
\ No newline at end of file
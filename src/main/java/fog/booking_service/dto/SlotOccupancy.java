@@ -0,0 +1,19 @@
+package fog.booking_service.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SlotOccupancy {
+
+    private LocalDateTime bookingDate;  //슬롯 시각
+    private int count;                  //예약된 좌석 수
+
+    public SlotOccupancy(LocalDateTime bookingDate, Long count) {
+        this.bookingDate = bookingDate;
+        this.count = count == null ? 0 : count.intValue();
+    }
+}
@@ -0,0 +1,22 @@
+package fog.booking_service.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기간 [from, to) 의 슬롯별 예약 좌석 수 - 예약이 있는 슬롯만 포함 (없는 슬롯은 0)
+ */
+@Getter
+@Setter
+@Builder
+public class SlotOccupancyResponse {
+
+    private String storeId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<SlotOccupancy> slots;
+}
@@ -0,0 +1,9 @@
+package fog.booking_service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치작업으로 completedUntil 이전 슬롯의 예약이 COMPLETED 처리되었을 때 발행
+ */
+public record BookingsCompletedEvent(LocalDateTime completedUntil) {
+}
@@ -0,0 +1,9 @@
+package fog.booking_service.event;
+
+import fog.booking_service.dto.BookingStatusMessage;
+
+/**
+ * 멱등 키의 처리 결과가 저장되었을 때 발행 - 커밋 후 노드 로컬 캐시에 반영
+ */
+public record IdempotentResultRecordedEvent(String idempotencyKey, BookingStatusMessage result) {
+}
@@ -0,0 +1,10 @@
+package fog.booking_service.event;
+
+import fog.booking_service.domain.SlotKey;
+
+/**
+ * 예약 생성/취소로 슬롯의 확정(CONFIRMED) 좌석 수가 변경되었을 때 발행
+ * delta - 증가 시 양수, 감소 시 음수
+ */
+public record SlotOccupancyChangedEvent(SlotKey slot, int delta) {
+}
@@ -0,0 +1,11 @@
+package fog.booking_service.event;
+
+import fog.booking_service.domain.BookingWaitlist;
+
+import java.util.List;
+
+/**
+ * 대기열 항목에 좌석 제안(OFFERED)을 선점했을 때 발행 - 커밋 후 승격 예약 요청 전송
+ */
+public record WaitlistOffersClaimedEvent(List<BookingWaitlist> offered) {
+}
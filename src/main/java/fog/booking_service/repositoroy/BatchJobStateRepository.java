@@ -0,0 +1,7 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.BatchJobState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchJobStateRepository extends JpaRepository<BatchJobState, String> {
+}
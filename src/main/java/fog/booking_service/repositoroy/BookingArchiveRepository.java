@@ -0,0 +1,51 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.BookingArchive;
+import fog.booking_service.dto.BookingListResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingArchiveRepository extends JpaRepository<BookingArchive, Long> {
+
+    /**
+     * BOOKING 의 예약을 그대로 복사 - 같은 트랜잭션에서 BookingRepository.deleteArchived 로 원본 삭제
+     */
+    @Modifying
+    @Query(value = "INSERT INTO BOOKING_ARCHIVE (BOOKING_NUM, BOOKING_DATE, USER_ID, STORE_ID, BOOKING_STATE_CODE, COUNT, ARCHIVED_AT) " +
+            "SELECT BOOKING_NUM, BOOKING_DATE, USER_ID, STORE_ID, BOOKING_STATE_CODE, COUNT, :archivedAt FROM BOOKING " +
+            "WHERE BOOKING_NUM IN (:bookingNums) AND BOOKING_STATE_CODE IN (:stateCodes)", nativeQuery = true)
+    int copyFromBooking(
+            @Param("bookingNums") List<Long> bookingNums,
+            @Param("stateCodes") List<Integer> stateCodes,
+            @Param("archivedAt") LocalDateTime archivedAt
+    );
+
+    @Query("SELECT new fog.booking_service.dto.BookingListResponse(b.bookingNum, b.bookingDate, b.storeId, s.stateName) " +
+            "FROM BookingArchive b JOIN b.bookingStateCode s " +
+            "WHERE b.userId = :userId AND (:bookingStateCode IS NULL OR s.bookingStateCode = :bookingStateCode) " +
+            "ORDER BY b.bookingDate DESC, b.bookingNum DESC")
+    List<BookingListResponse> findBookingList(
+            @Param("userId") String userId,
+            @Param("bookingStateCode") Integer bookingStateCode,
+            Limit limit
+    );
+
+    @Query("SELECT new fog.booking_service.dto.BookingListResponse(b.bookingNum, b.bookingDate, b.storeId, s.stateName) " +
+            "FROM BookingArchive b JOIN b.bookingStateCode s " +
+            "WHERE b.userId = :userId AND (:bookingStateCode IS NULL OR s.bookingStateCode = :bookingStateCode) " +
+            "AND (b.bookingDate < :cursorDate OR (b.bookingDate = :cursorDate AND b.bookingNum < :cursorNum)) " +
+            "ORDER BY b.bookingDate DESC, b.bookingNum DESC")
+    List<BookingListResponse> findBookingListAfter(
+            @Param("userId") String userId,
+            @Param("bookingStateCode") Integer bookingStateCode,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorNum") Long cursorNum,
+            Limit limit
+    );
+}
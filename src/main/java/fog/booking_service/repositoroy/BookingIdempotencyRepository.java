@@ -0,0 +1,16 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.BookingIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface BookingIdempotencyRepository extends JpaRepository<BookingIdempotency, String> {
+
+    @Modifying
+    @Query("DELETE FROM BookingIdempotency i WHERE i.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,8 +1,14 @@
 package fog.booking_service.repositoroy;
 
 import fog.booking_service.domain.Booking;
+import fog.booking_service.domain.BookingStateCode;
+import fog.booking_service.dto.ArchiveCandidate;
+import fog.booking_service.dto.BookingListResponse;
+import fog.booking_service.dto.SlotOccupancy;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,7 +16,31 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByUserId(String userId);
+    @Query("SELECT new fog.booking_service.dto.BookingListResponse(b.bookingNum, b.bookingDate, b.storeId, s.stateName) " +
+            "FROM Booking b JOIN b.bookingStateCode s " +
+            "WHERE b.userId = :userId AND (:bookingStateCode IS NULL OR s.bookingStateCode = :bookingStateCode) " +
+            "ORDER BY b.bookingDate DESC, b.bookingNum DESC")
+    List<BookingListResponse> findBookingList(
+            @Param("userId") String userId,
+            @Param("bookingStateCode") Integer bookingStateCode,
+            Limit limit
+    );
+
+    /**
+     * 커서 (cursorDate, cursorNum) 다음 페이지 - (bookingDate, bookingNum) 내림차순 키셋 페이지네이션
+     */
+    @Query("SELECT new fog.booking_service.dto.BookingListResponse(b.bookingNum, b.bookingDate, b.storeId, s.stateName) " +
+            "FROM Booking b JOIN b.bookingStateCode s " +
+            "WHERE b.userId = :userId AND (:bookingStateCode IS NULL OR s.bookingStateCode = :bookingStateCode) " +
+            "AND (b.bookingDate < :cursorDate OR (b.bookingDate = :cursorDate AND b.bookingNum < :cursorNum)) " +
+            "ORDER BY b.bookingDate DESC, b.bookingNum DESC")
+    List<BookingListResponse> findBookingListAfter(
+            @Param("userId") String userId,
+            @Param("bookingStateCode") Integer bookingStateCode,
+            @Param("cursorDate") LocalDateTime cursorDate,
+            @Param("cursorNum") Long cursorNum,
+            Limit limit
+    );
 
     @Query("SELECT COALESCE(SUM(b.count), 0) FROM Booking b WHERE b.bookingDate = :bookingDate AND b.bookingStateCode.id = :bookingStateCodeId AND b.storeId = :storeId")
     Integer sumCountByBookingDate(
@@ -19,5 +49,63 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             @Param("bookingStateCodeId") Integer bookingStateCodeId
     );
 
-    List<Booking> findByBookingDateLessThanEqualAndBookingStateCode_BookingStateCode(LocalDateTime now, int bookingStateCode);
+    @Query("SELECT new fog.booking_service.dto.SlotOccupancy(b.bookingDate, SUM(b.count)) FROM Booking b " +
+            "WHERE b.storeId = :storeId AND b.bookingStateCode.bookingStateCode = :bookingStateCode " +
+            "AND b.bookingDate >= :from AND b.bookingDate < :to GROUP BY b.bookingDate ORDER BY b.bookingDate")
+    List<SlotOccupancy> sumCountGroupByBookingDate(
+            @Param("storeId") String storeId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("bookingStateCode") int bookingStateCode
+    );
+
+    @Query("SELECT b.bookingNum FROM Booking b WHERE b.bookingStateCode.bookingStateCode = :bookingStateCode " +
+            "AND b.bookingDate > :from AND b.bookingDate <= :to AND b.bookingNum > :afterBookingNum ORDER BY b.bookingNum")
+    List<Long> findBookingNumsByStateCodeAndDateRange(
+            @Param("bookingStateCode") int bookingStateCode,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("afterBookingNum") long afterBookingNum,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.bookingStateCode = :stateCode " +
+            "WHERE b.bookingNum IN :bookingNums AND b.bookingStateCode.bookingStateCode = :currentStateCode")
+    int updateStateCode(
+            @Param("bookingNums") List<Long> bookingNums,
+            @Param("currentStateCode") int currentStateCode,
+            @Param("stateCode") BookingStateCode stateCode
+    );
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.bookingStateCode = :stateCode " +
+            "WHERE b.bookingNum = :bookingNum AND b.userId = :userId AND b.bookingStateCode.bookingStateCode = :currentStateCode")
+    int updateStateCodeByOwner(
+            @Param("bookingNum") Long bookingNum,
+            @Param("userId") String userId,
+            @Param("currentStateCode") int currentStateCode,
+            @Param("stateCode") BookingStateCode stateCode
+    );
+
+    /**
+     * 보관 대상 - [from, until) 구간의 stateCodes 예약을 (bookingDate, bookingNum) 순으로
+     * 보관한 행은 BOOKING 에서 삭제되므로 커서 없이 같은 조건으로 다시 조회하면 다음 청크
+     */
+    @Query("SELECT new fog.booking_service.dto.ArchiveCandidate(b.bookingNum, b.bookingDate) FROM Booking b " +
+            "WHERE b.bookingDate >= :from AND b.bookingDate < :until AND b.bookingStateCode.bookingStateCode IN :stateCodes " +
+            "ORDER BY b.bookingDate, b.bookingNum")
+    List<ArchiveCandidate> findArchiveCandidates(
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until,
+            @Param("stateCodes") List<Integer> stateCodes,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.bookingNum IN :bookingNums AND b.bookingStateCode.bookingStateCode IN :stateCodes")
+    int deleteArchived(
+            @Param("bookingNums") List<Long> bookingNums,
+            @Param("stateCodes") List<Integer> stateCodes
+    );
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.BookingWaitlist;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingWaitlistRepository extends JpaRepository<BookingWaitlist, Long> {
+
+    /**
+     * 슬롯 대기열 앞부분 (등록순)
+     */
+    @Query("SELECT w FROM BookingWaitlist w WHERE w.storeId = :storeId AND w.bookingDate = :bookingDate " +
+            "AND w.status = 'WAITING' ORDER BY w.waitlistId")
+    List<BookingWaitlist> findWaiting(
+            @Param("storeId") String storeId,
+            @Param("bookingDate") LocalDateTime bookingDate,
+            Limit limit
+    );
+
+    /**
+     * 승격 요청 처리 중 잠금 - 트랜잭션 종료까지 대기열 취소(deleteByOwner)가 기다림
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BookingWaitlist> findLockedByWaitlistId(Long waitlistId);
+
+    /**
+     * 좌석 제안 선점 - 다른 태스크가 먼저 선점했으면 0 반환
+     */
+    @Modifying
+    @Query("UPDATE BookingWaitlist w SET w.status = 'OFFERED', w.offers = w.offers + 1, w.offeredAt = :now " +
+            "WHERE w.waitlistId = :waitlistId AND w.status = 'WAITING'")
+    int offer(@Param("waitlistId") Long waitlistId, @Param("now") LocalDateTime now);
+
+    /**
+     * 다시 거절된 제안을 대기 상태로 복귀 (순서 유지)
+     */
+    @Modifying
+    @Query("UPDATE BookingWaitlist w SET w.status = 'WAITING', w.offeredAt = NULL " +
+            "WHERE w.waitlistId = :waitlistId AND w.status = 'OFFERED'")
+    int requeue(@Param("waitlistId") Long waitlistId);
+
+    /**
+     * 제안 기한이 지난 항목 (결과가 반영되지 않은 승격 요청)
+     */
+    @Query("SELECT w FROM BookingWaitlist w WHERE w.status = 'OFFERED' AND w.offeredAt < :expiredBefore ORDER BY w.waitlistId")
+    List<BookingWaitlist> findExpiredOffers(@Param("expiredBefore") LocalDateTime expiredBefore, Limit limit);
+
+    /**
+     * 만료된 제안 회수 - 다른 태스크가 먼저 회수했거나 그사이 결과가 반영됐으면 0 반환
+     */
+    @Modifying
+    @Query("UPDATE BookingWaitlist w SET w.status = 'WAITING', w.offeredAt = NULL " +
+            "WHERE w.waitlistId = :waitlistId AND w.status = 'OFFERED' AND w.offeredAt < :expiredBefore")
+    int requeueExpired(@Param("waitlistId") Long waitlistId, @Param("expiredBefore") LocalDateTime expiredBefore);
+
+    @Modifying
+    @Query("DELETE FROM BookingWaitlist w WHERE w.waitlistId = :waitlistId")
+    int deleteByWaitlistId(@Param("waitlistId") Long waitlistId);
+
+    @Modifying
+    @Query("DELETE FROM BookingWaitlist w WHERE w.storeId = :storeId AND w.bookingDate = :bookingDate AND w.userId = :userId")
+    int deleteByOwner(
+            @Param("storeId") String storeId,
+            @Param("bookingDate") LocalDateTime bookingDate,
+            @Param("userId") String userId
+    );
+
+    @Modifying
+    @Query("DELETE FROM BookingWaitlist w WHERE w.bookingDate <= :until")
+    int deleteByBookingDateUntil(@Param("until") LocalDateTime until);
+}
@@ -0,0 +1,59 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.NotificationOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("SELECT o.outboxId FROM NotificationOutbox o WHERE o.status = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.outboxId")
+    List<Long> findReadyIds(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * 발송 대상 선점 - 다른 태스크가 먼저 선점한 행은 nextAttemptAt 조건에서 제외됨
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.claimToken = :token, o.nextAttemptAt = :leaseUntil " +
+            "WHERE o.outboxId IN :ids AND o.status = 'PENDING' AND o.nextAttemptAt <= :now")
+    int claim(
+            @Param("ids") List<Long> ids,
+            @Param("token") String token,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    List<NotificationOutbox> findByClaimToken(String claimToken);
+
+    /**
+     * 발송 완료 - 선점한 태스크만 삭제 (lease 가 지나 다른 태스크가 다시 선점했으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.outboxId = :id AND o.claimToken = :token")
+    int deleteClaimed(@Param("id") Long id, @Param("token") String token);
+
+    /**
+     * 발송 실패 기록 - 선점한 태스크만 반영 (lease 가 지나 다른 태스크가 다시 선점했으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.claimToken = NULL, o.attempts = :attempts, o.status = :status, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError " +
+            "WHERE o.outboxId = :id AND o.claimToken = :token")
+    int recordFailure(
+            @Param("id") Long id,
+            @Param("token") String token,
+            @Param("attempts") int attempts,
+            @Param("status") String status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+}
@@ -0,0 +1,44 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.SlotCapacity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SlotCapacityRepository extends JpaRepository<SlotCapacity, SlotCapacity.SlotCapacityId> {
+
+    /**
+     * 잔여 좌석 차감 - 잔여 좌석이 부족하면 0 반환 (행 잠금은 트랜잭션 종료 시 해제)
+     */
+    @Modifying
+    @Query("UPDATE SlotCapacity c SET c.remaining = c.remaining - :count " +
+            "WHERE c.storeId = :storeId AND c.bookingDate = :bookingDate AND c.remaining >= :count")
+    int decrement(
+            @Param("storeId") String storeId,
+            @Param("bookingDate") LocalDateTime bookingDate,
+            @Param("count") int count
+    );
+
+    @Query("SELECT c.remaining FROM SlotCapacity c WHERE c.storeId = :storeId AND c.bookingDate = :bookingDate")
+    Optional<Integer> findRemaining(
+            @Param("storeId") String storeId,
+            @Param("bookingDate") LocalDateTime bookingDate
+    );
+
+    @Modifying
+    @Query("UPDATE SlotCapacity c SET c.remaining = c.remaining + :count " +
+            "WHERE c.storeId = :storeId AND c.bookingDate = :bookingDate")
+    int increment(
+            @Param("storeId") String storeId,
+            @Param("bookingDate") LocalDateTime bookingDate,
+            @Param("count") int count
+    );
+
+    @Modifying
+    @Query("DELETE FROM SlotCapacity c WHERE c.bookingDate <= :until")
+    int deleteByBookingDateUntil(@Param("until") LocalDateTime until);
+}
@@ -0,0 +1,162 @@
+package fog.booking_service.service;
+
+import fog.booking_service.dto.ArchiveCandidate;
+import fog.booking_service.repositoroy.BookingArchiveRepository;
+import fog.booking_service.repositoroy.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 예약 보관 - 보관 기간이 지난 COMPLETED/CANCELED 예약을 BOOKING -> BOOKING_ARCHIVE 로 이동
+ * 청크마다 작업 행 잠금 + 복사 + 삭제 + 워터마크 갱신을 한 트랜잭션으로 커밋하므로 중단되어도 다음 실행이 워터마크부터 이어서 처리
+ * 작업 행(BATCH_JOB_STATE)은 FOR UPDATE NOWAIT 로 잠금 - 다른 태스크가 보관 중이면 기다리지 않고 이번 실행을 끝냄
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BookingArchiver {
+
+    private static final String ARCHIVE_JOB = "BOOKING_ARCHIVE";
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String LOCK_SQL = "SELECT WATERMARK FROM BATCH_JOB_STATE WHERE JOB_NAME = ? FOR UPDATE NOWAIT";
+    private static final String INSERT_SQL = "INSERT INTO BATCH_JOB_STATE (JOB_NAME, WATERMARK) VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE BATCH_JOB_STATE SET WATERMARK = ? WHERE JOB_NAME = ?";
+    private static final List<Integer> ARCHIVABLE_STATES =
+            List.of(BookingStateCodeRegistry.CANCELED, BookingStateCodeRegistry.COMPLETED);
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository archiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${booking.archive.horizon-days:90}")
+    private long horizonDays;
+
+    @Value("${booking.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${booking.archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${booking.archive.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    /**
+     * 보관 기준(현재 - horizonDays) 이전 예약을 워터마크부터 chunkSize 건씩 이동
+     * 한 번에 최대 maxChunksPerRun 청크, 청크 사이 chunkPauseMs 대기 - 나머지는 다음 실행에서 처리
+     * @return 이동한 예약 수
+     */
+    public int archive() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        LocalDateTime until = now.minusDays(horizonDays);
+        log.info("예약 보관 시작: 보관 기준 {}", until);
+
+        int chunks = 0;
+        int archivedTotal = 0;
+        while (chunks < maxChunksPerRun) {
+            long chunkStartedAt = System.currentTimeMillis();
+            Chunk chunk;
+            try {
+                chunk = transactionTemplate.execute(status -> archiveChunk(until, now, status));
+            } catch (PessimisticLockingFailureException | QueryTimeoutException e) {
+                // NOWAIT 잠금 실패 - Oracle(ORA-00054)은 CannotAcquireLockException, H2 는 QueryTimeoutException 으로 변환됨
+                log.info("다른 태스크가 예약 보관 중 - 이번 실행 종료");
+                break;
+            }
+            if (chunk == null || chunk.candidates() == 0) {
+                break;
+            }
+            chunks++;
+            archivedTotal += chunk.archived();
+            log.info("예약 보관 청크 완료: chunk={}, rows={}, watermark={}, elapsed={}ms",
+                    chunks, chunk.archived(), chunk.watermark(), System.currentTimeMillis() - chunkStartedAt);
+            if (chunk.candidates() < chunkSize && chunk.archived() == chunk.candidates()) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        log.info("예약 보관 종료: 청크 수={}, 이동한 예약 수={}, 소요시간={}ms",
+                chunks, archivedTotal, System.currentTimeMillis() - startedAt);
+        return archivedTotal;
+    }
+
+    /**
+     * 작업 행을 잠그고 워터마크부터 한 청크 이동 - 잠금 실패 시 PessimisticLockingFailureException
+     * 복사/삭제 건수가 다르면(복사와 삭제 사이에 상태가 바뀐 예약) 이 청크만 롤백하고 워터마크를 그대로 둠 - 다음 청크에서 다시 조회
+     */
+    private Chunk archiveChunk(LocalDateTime until, LocalDateTime now, TransactionStatus status) {
+        LocalDateTime from = lockWatermark();
+        List<ArchiveCandidate> candidates = bookingRepository.findArchiveCandidates(
+                from, until, ARCHIVABLE_STATES, Limit.of(chunkSize));
+        if (candidates.isEmpty()) {
+            return new Chunk(0, 0, from);
+        }
+        List<Long> bookingNums = candidates.stream().map(ArchiveCandidate::bookingNum).toList();
+        // 같은 bookingDate 의 남은 예약은 다음 청크에서 (>= 조건)
+        LocalDateTime watermark = candidates.get(candidates.size() - 1).bookingDate();
+        int copied = archiveRepository.copyFromBooking(bookingNums, ARCHIVABLE_STATES, now);
+        int deleted = bookingRepository.deleteArchived(bookingNums, ARCHIVABLE_STATES);
+        if (copied != deleted) {
+            log.warn("보관 복사/삭제 건수 불일치, 청크 롤백: copied={}, deleted={}, watermark={}", copied, deleted, from);
+            status.setRollbackOnly();
+            return new Chunk(candidates.size(), 0, from);
+        }
+        jdbcTemplate.update(UPDATE_SQL, Timestamp.valueOf(watermark), ARCHIVE_JOB);
+        return new Chunk(candidates.size(), deleted, watermark);
+    }
+
+    /**
+     * 작업 행 잠금 후 워터마크 반환 - 행이 없으면 만든 뒤 잠금
+     */
+    private LocalDateTime lockWatermark() {
+        List<Timestamp> watermark = jdbcTemplate.queryForList(LOCK_SQL, Timestamp.class, ARCHIVE_JOB);
+        if (watermark.isEmpty()) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ARCHIVE_JOB, Timestamp.valueOf(INITIAL_WATERMARK));
+            } catch (DuplicateKeyException e) {
+                // 다른 태스크가 먼저 생성
+                log.debug("예약 보관 작업 행 동시 생성");
+            }
+            watermark = jdbcTemplate.queryForList(LOCK_SQL, Timestamp.class, ARCHIVE_JOB);
+        }
+        return watermark.get(0).toLocalDateTime();
+    }
+
+    private record Chunk(int candidates, int archived, LocalDateTime watermark) {
+    }
+
+    /**
+     * 청크 사이 대기 - 운영 트래픽과 리두/언두 생성량을 나눠 가짐
+     */
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("예약 보관 중단 - 다음 실행에서 워터마크부터 이어서 처리");
+            return false;
+        }
+    }
+}
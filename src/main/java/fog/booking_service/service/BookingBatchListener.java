@@ -0,0 +1,92 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.dto.BookingStatusMessage;
+import fog.booking_service.dto.SQSBookingRequest;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 예약 요청 SQS 리스너 - 배치 처리 (booking.sqs.batch.enabled=true)
+ * 한 번의 폴링으로 받은 메시지를 하나의 트랜잭션에서 일괄 저장하고, 결과 전송과 ack 는 메시지별로 처리
+ * (예약 완료 문자는 예약과 함께 아웃박스에 저장되어 NotificationRelay 가 발송)
+ * 처리는 sqsListenerExecutor 에서 실행 (가상 스레드 모드가 아니면 컨테이너 스레드에서 바로 실행)
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "booking.sqs.batch.enabled", havingValue = "true")
+public class BookingBatchListener {
+
+    private final BookingService bookingService;
+    private final BookingMetrics bookingMetrics;
+    private final TaskExecutor listenerExecutor;
+
+    public BookingBatchListener(BookingService bookingService, BookingMetrics bookingMetrics,
+                                @Qualifier("sqsListenerExecutor") TaskExecutor listenerExecutor) {
+        this.bookingService = bookingService;
+        this.bookingMetrics = bookingMetrics;
+        this.listenerExecutor = listenerExecutor;
+    }
+
+    @SqsListener(value = "${aws.sqs.queue.booking-request}", acknowledgementMode = "MANUAL",
+            maxMessagesPerPoll = "${booking.sqs.batch.max-messages-per-poll:10}")
+    public CompletableFuture<Void> handleBookingRequests(List<Message<SQSBookingRequest>> messages,
+                                                         BatchAcknowledgement<SQSBookingRequest> acknowledgement) {
+        log.info("SQS 큐 예약 요청 메시지 일괄 수신: size={}", messages.size());
+        messages.forEach(message -> bookingMetrics.recordSqsDwell(
+                message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP)));
+        return CompletableFuture.runAsync(() -> process(messages, acknowledgement), listenerExecutor);
+    }
+
+    private void process(List<Message<SQSBookingRequest>> received, BatchAcknowledgement<SQSBookingRequest> acknowledgement) {
+        // 같은 멱등 키로 이미 처리된 요청은 이전 결과로 응답하고 일괄 저장에서 제외
+        List<Message<SQSBookingRequest>> messages = new ArrayList<>(received.size());
+        for (Message<SQSBookingRequest> message : received) {
+            if (message.getPayload().getIdempotencyKey() != null && bookingService.respondIfDuplicate(message.getPayload())) {
+                acknowledgement.acknowledge(List.of(message));
+            } else {
+                messages.add(message);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<SQSBookingRequest> requests = messages.stream().map(Message::getPayload).toList();
+
+        List<Booking> bookings;
+        try {
+            bookings = bookingService.makeBookings(requests);
+        } catch (Exception e) {
+            // 일괄 저장 실패 시 메시지별 단건 처리로 전환
+            log.error("예약 일괄 처리 실패, 단건 처리로 전환: {}", e.getMessage());
+            for (Message<SQSBookingRequest> message : messages) {
+                bookingService.handleBookingRequest(message.getPayload());
+                acknowledgement.acknowledge(List.of(message));
+            }
+            return;
+        }
+
+        for (int i = 0; i < messages.size(); i++) {
+            SQSBookingRequest request = requests.get(i);
+            Booking booking = bookings.get(i);
+            // 다시 거절된 대기열 승격 요청은 알리지 않음
+            BookingStatusMessage result = BookingService.resultMessage(request, booking);
+            if (result != null) {
+                bookingService.sendSseEvent(request.getUserId(), result);
+            }
+            acknowledgement.acknowledge(List.of(messages.get(i)));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package fog.booking_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fog.booking_service.domain.BookingIdempotency;
+import fog.booking_service.dto.BookingStatusMessage;
+import fog.booking_service.event.IdempotentResultRecordedEvent;
+import fog.booking_service.repositoroy.BookingIdempotencyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * 예약 요청 멱등 키 저장소 - 노드 로컬 LRU 캐시 + BOOKING_IDEMPOTENCY 테이블 (PK 제약으로 중복 처리 방지)
+ * 결과는 예약과 같은 트랜잭션에서 저장되고, 커밋된 결과만 캐시에 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIdempotencyStore {
+
+    private final BookingIdempotencyRepository idempotencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.idempotency.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${booking.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    // 멱등 키 -> 처리 결과
+    private Cache<String, BookingStatusMessage> results;
+
+    @PostConstruct
+    void init() {
+        results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofHours(retentionHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "booking.idempotency");
+    }
+
+    /**
+     * 이전 처리 결과 조회 - 캐시에 없으면 DB 확인
+     */
+    public Optional<BookingStatusMessage> find(String idempotencyKey) {
+        BookingStatusMessage cached = results.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<BookingStatusMessage> stored = idempotencyRepository.findById(idempotencyKey)
+                .map(row -> new BookingStatusMessage(row.getStatus(), row.getMessage(), row.getBookingNum()));
+        stored.ifPresent(result -> results.put(idempotencyKey, result));
+        return stored;
+    }
+
+    /**
+     * 처리 결과 저장 - 호출한 트랜잭션에 참여, 같은 키가 이미 저장되어 있으면 DataIntegrityViolationException
+     */
+    public void record(String idempotencyKey, BookingStatusMessage result) {
+        idempotencyRepository.saveAndFlush(new BookingIdempotency(idempotencyKey, result.getStatus(), result.getMessage(),
+                result.getBookingId(), LocalDateTime.now(ZoneId.of("Asia/Seoul"))));
+        eventPublisher.publishEvent(new IdempotentResultRecordedEvent(idempotencyKey, result));
+    }
+
+    /**
+     * 보관 기간이 지난 키 정리 - 예약 완료 배치에서 호출
+     */
+    public int purge(LocalDateTime now) {
+        return idempotencyRepository.deleteByCreatedAtBefore(now.minusHours(retentionHours));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultRecorded(IdempotentResultRecordedEvent event) {
+        results.put(event.idempotencyKey(), event.result());
+    }
+}
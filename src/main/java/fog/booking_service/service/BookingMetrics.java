@@ -0,0 +1,73 @@
+package fog.booking_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 처리 단계별 지연시간(booking.stage) 과 처리 결과(booking.requests) 메트릭
+ * 단계 타이머는 stage 태그만 가지며 히스토그램을 발행하고, 결과 카운터의 store 태그는 MetricsConfig 에서 개수를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    public static final String ENQUEUE = "enqueue";
+    public static final String SQS_DWELL = "sqs_dwell";
+    public static final String OCCUPANCY_CHECK = "occupancy_check";
+    public static final String INSERT = "insert";
+    public static final String COGNITO_LOOKUP = "cognito_lookup";
+    public static final String STORE_LOOKUP = "store_lookup";
+    public static final String SNS_PUBLISH = "sns_publish";
+    public static final String SSE_DELIVERY = "sse_delivery";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+
+    public enum Outcome {
+        ACCEPTED("accepted"), REJECTED_FULL("rejected_full"), REJECTED_SOLD_OUT("rejected_sold_out"), WAITLISTED("waitlisted"), DUPLICATE("duplicate"), ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public Timer stage(String stage) {
+        return stageTimers.computeIfAbsent(stage, name -> Timer.builder("booking.stage")
+                .description("예약 처리 단계별 소요시간")
+                .tag("stage", name)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(meterRegistry));
+    }
+
+    /**
+     * SQS 대기시간 - 메시지 전송 시각(SentTimestamp) 부터 수신까지
+     */
+    public void recordSqsDwell(Object sentTimestamp) {
+        if (sentTimestamp == null) {
+            return;
+        }
+        long dwellMillis = System.currentTimeMillis() - Long.parseLong(sentTimestamp.toString());
+        stage(SQS_DWELL).record(Math.max(0, dwellMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void outcome(String storeId, Outcome outcome) {
+        Counter.builder("booking.requests")
+                .description("예약 요청 처리 결과")
+                .tag("store", storeId == null ? "unknown" : storeId)
+                .tag("outcome", outcome.tag)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,123 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.dto.BookingListResponse;
+import fog.booking_service.dto.BookingResponse;
+import fog.booking_service.dto.SlotOccupancyResponse;
+import fog.booking_service.exception.BadRequestException;
+import fog.booking_service.repositoroy.BookingArchiveRepository;
+import fog.booking_service.repositoroy.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 예약 조회 - 읽기 전용 트랜잭션 (booking.datasource.replica.enabled=true 면 대기 DB 로 라우팅)
+ * 예약 생성/취소/배치 등 쓰기는 BookingService
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookingQueryService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository archiveRepository;
+    private final BookingStateCodeRegistry stateCodes;
+    private final SeatAvailabilityCache seatAvailabilityCache;
+
+    @Value("${booking.occupancy.max-range-days:7}")
+    private long maxOccupancyRangeDays;
+
+    @Value("${booking.list.default-page-size:20}")
+    private int defaultBookingListPageSize;
+
+    @Value("${booking.list.max-page-size:100}")
+    private int maxBookingListPageSize;
+
+    /**
+     * 예약된 좌석 수 조회
+     * 캐시(SeatAvailabilityCache)를 먼저 확인하므로 트랜잭션을 열지 않음 - 캐시 적중 시 DB 커넥션 사용 없음
+     * @param dateTime
+     * @return
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Integer getAvailableSeats(String storeId, LocalDateTime dateTime) {
+        log.info("예약된 좌석 수 조회");
+        return seatAvailabilityCache.getOccupiedSeats(new SlotKey(storeId, dateTime));
+    }
+
+    /**
+     * 기간 [from, to) 의 슬롯별 예약된 좌석 수 조회 - 슬롯별 조회를 GROUP BY 한 번으로 대체
+     */
+    public SlotOccupancyResponse getSlotOccupancy(String storeId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to) || to.isAfter(from.plusDays(maxOccupancyRangeDays))) {
+            throw new BadRequestException("조회 기간은 최대 " + maxOccupancyRangeDays + "일입니다.");
+        }
+        log.info("기간별 예약된 좌석 수 조회: storeId={}, from={}, to={}", storeId, from, to);
+        return SlotOccupancyResponse.builder()
+                .storeId(storeId)
+                .from(from)
+                .to(to)
+                .slots(bookingRepository.sumCountGroupByBookingDate(storeId, from, to, BookingStateCodeRegistry.CONFIRMED))
+                .build();
+    }
+
+    /*
+    예약 리스트 조회
+    (bookingDate, bookingNum) 내림차순 키셋 페이지네이션 - 다음 페이지는 마지막 항목의 bookingDate, bookingNum 을 커서로 전달
+    history=true 면 보관 예약(BOOKING_ARCHIVE)도 같은 커서로 조회해 합침 - 예약 번호는 두 테이블에서 겹치지 않음
+    size 와 커서가 모두 없으면 전체 목록 (페이지 조회 도입 전 클라이언트 호환), 커서만 있으면 기본 페이지 크기
+     */
+    public List<BookingListResponse> getBookingList(String userId, String state, LocalDateTime cursorDate, Long cursorNum,
+                                                    Integer size, boolean history) {
+        log.info("예약 리스트 조회");
+        if ((cursorDate == null) != (cursorNum == null)) {
+            throw new BadRequestException("cursorDate 와 cursorNum 은 함께 전달해야 합니다.");
+        }
+        Integer stateCode = state == null ? null : stateCodes.findCode(state)
+                .orElseThrow(() -> new BadRequestException("알 수 없는 예약 상태입니다: " + state));
+        Limit limit = size == null && cursorDate == null
+                ? Limit.unlimited()
+                : Limit.of(Math.min(Math.max(size == null ? defaultBookingListPageSize : size, 1), maxBookingListPageSize));
+
+        List<BookingListResponse> bookings = cursorDate == null
+                ? bookingRepository.findBookingList(userId, stateCode, limit)
+                : bookingRepository.findBookingListAfter(userId, stateCode, cursorDate, cursorNum, limit);
+        if (!history) {
+            return bookings;
+        }
+        List<BookingListResponse> archived = cursorDate == null
+                ? archiveRepository.findBookingList(userId, stateCode, limit)
+                : archiveRepository.findBookingListAfter(userId, stateCode, cursorDate, cursorNum, limit);
+        return Stream.concat(bookings.stream(), archived.stream())
+                .sorted(Comparator.comparing(BookingListResponse::getBookingDate)
+                        .thenComparing(BookingListResponse::getBookingNum)
+                        .reversed())
+                .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+                .toList();
+    }
+
+    /*
+    예약 상세 조회 - BookingResponse
+    BOOKING 에 없으면 보관 예약(BOOKING_ARCHIVE)에서 조회
+    대기 DB 에 아직 반영되지 않은 예약(방금 생성)은 없을 수 있으므로, 없으면 BookingService.getBookingResponse 로 주 DB 조회
+     */
+    public Optional<BookingResponse> findBookingResponse(Long bookingNum) {
+        log.info("예약 상세 조회");
+        return bookingRepository.findById(bookingNum)
+                .map(booking -> BookingResponse.of(booking, stateCodes.getStateName(booking.getBookingStateCode().getBookingStateCode())))
+                .or(() -> archiveRepository.findById(bookingNum)
+                        .map(archived -> BookingResponse.of(archived, stateCodes.getStateName(archived.getBookingStateCode().getBookingStateCode()))));
+    }
+}
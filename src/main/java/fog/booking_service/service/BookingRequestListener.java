@@ -0,0 +1,43 @@
+package fog.booking_service.service;
+
+import fog.booking_service.dto.SQSBookingRequest;
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 예약 요청 SQS 리스너 - 메시지 단건 처리 (기본)
+ * 처리는 sqsListenerExecutor 에서 실행 (가상 스레드 모드가 아니면 컨테이너 스레드에서 바로 실행)
+ */
+@Component
+@ConditionalOnProperty(name = "booking.sqs.batch.enabled", havingValue = "false", matchIfMissing = true)
+public class BookingRequestListener {
+
+    private final BookingService bookingService;
+    private final BookingMetrics bookingMetrics;
+    private final TaskExecutor listenerExecutor;
+
+    public BookingRequestListener(BookingService bookingService, BookingMetrics bookingMetrics,
+                                  @Qualifier("sqsListenerExecutor") TaskExecutor listenerExecutor) {
+        this.bookingService = bookingService;
+        this.bookingMetrics = bookingMetrics;
+        this.listenerExecutor = listenerExecutor;
+    }
+
+    @SqsListener(value = "${aws.sqs.queue.booking-request}", acknowledgementMode = "MANUAL")
+    public CompletableFuture<Void> handleBookingRequest(SQSBookingRequest request, Acknowledgement acknowledgement,
+                                     @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, required = false) String sentTimestamp) {
+        bookingMetrics.recordSqsDwell(sentTimestamp);
+        return CompletableFuture.runAsync(() -> {
+            bookingService.handleBookingRequest(request);
+            acknowledgement.acknowledge();
+        }, listenerExecutor);
+    }
+}
@@ -0,0 +1,49 @@
+package fog.booking_service.service;
+
+import fog.booking_service.dto.SQSBookingRequest;
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 요청 SQS 전송 - 컨트롤러(신규 요청)와 대기열 승격에서 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingRequestSender {
+
+    private final SqsTemplate sqsTemplate;
+    private final BookingMetrics bookingMetrics;
+
+    @Value("${aws.sqs.queue.booking-request}")
+    private String bookingRequestQueue;
+
+    // 예약 요청 큐가 FIFO 인지 여부 (표준 큐는 메시지 그룹/중복 제거 ID 없이 전송)
+    @Value("${aws.sqs.queue.fifo:true}")
+    private boolean fifoQueue;
+
+    @Value("${booking.admission.mode:ledger}")
+    private String admissionMode;
+
+    /**
+     * @param deduplicationId FIFO 큐 중복 제거 ID
+     */
+    public void send(SQSBookingRequest request, String deduplicationId) {
+        // 메시지 그룹 ID (FIFO 큐에 필수)
+        // 좌석 초과는 두 방식 모두 SLOT_CAPACITY 조건부 UPDATE 가 막음
+        // ledger: 슬롯 단위로 순차 처리 - 한 태스크의 원장에 슬롯 예약이 모여 빠른 거절이 정확해짐
+        // slot-capacity: 사용자 단위로만 순서 보장 - 같은 슬롯도 동시 처리
+        String messageGroupId = "slot-capacity".equals(admissionMode)
+                ? request.getUserId()
+                : request.getStoreId() + "_" + request.getBookingDate().toString();
+
+        bookingMetrics.stage(BookingMetrics.ENQUEUE).record(() -> sqsTemplate.send(sqsSendOptions -> {
+            sqsSendOptions.queue(bookingRequestQueue).payload(request);
+            if (fifoQueue) {
+                sqsSendOptions.messageDeduplicationId(deduplicationId)
+                        .messageGroupId(messageGroupId);
+            }
+        }));
+    }
+}
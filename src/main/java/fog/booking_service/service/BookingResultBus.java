@@ -0,0 +1,12 @@
+package fog.booking_service.service;
+
+import fog.booking_service.dto.BookingStatusMessage;
+
+/**
+ * 예약 결과 전달 - 메시지를 처리한 태스크와 사용자의 SSE 연결을 가진 태스크가 다를 수 있으므로 연결을 가진 노드로 전달한다.
+ * booking.result-bus.type 으로 구현 선택 (loopback: 같은 프로세스 내 전달, sns: SNS 토픽 + 태스크별 SQS 큐)
+ */
+public interface BookingResultBus {
+
+    void publish(String userId, BookingStatusMessage result);
+}
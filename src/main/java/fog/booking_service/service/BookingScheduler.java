@@ -9,10 +9,17 @@ import org.springframework.stereotype.Component;
 public class BookingScheduler {
 
     private final BookingService bookingService;
+    private final BookingArchiver bookingArchiver;
 
     @Scheduled(cron = "0 0 * * * ?", zone = "Asia/Seoul")
     public void updateBookingState() {
         bookingService.updateBookingState();
     }
 
+    // 매일 새벽 보관 기간이 지난 예약을 BOOKING_ARCHIVE 로 이동 ("-" 로 끄기)
+    @Scheduled(cron = "${booking.archive.cron:0 30 4 * * ?}", zone = "Asia/Seoul")
+    public void archiveBookings() {
+        bookingArchiver.archive();
+    }
+
 }
@@ -1,29 +1,42 @@
 package fog.booking_service.service;
 
-import fog.booking_service.controller.BookingController;
+import fog.booking_service.domain.BatchJobState;
 import fog.booking_service.domain.Booking;
 import fog.booking_service.domain.BookingStateCode;
-import fog.booking_service.dto.BookingListResponse;
+import fog.booking_service.domain.NotificationOutbox;
+import fog.booking_service.domain.SlotKey;
 import fog.booking_service.dto.BookingResponse;
 import fog.booking_service.dto.BookingStatusMessage;
 import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.event.BookingsCompletedEvent;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.exception.AccessDeniedException;
+import fog.booking_service.exception.BookingConflictException;
+import fog.booking_service.repositoroy.BatchJobStateRepository;
 import fog.booking_service.repositoroy.BookingRepository;
-import fog.booking_service.repositoroy.BookingStateCodeRepository;
-import io.awspring.cloud.sqs.annotation.SqsListener;
-import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement;
+import fog.booking_service.repositoroy.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Service
 @Slf4j
@@ -31,62 +44,50 @@ import java.util.stream.Collectors;
 @Transactional
 public class BookingService {
 
+    private static final String COMPLETION_JOB = "BOOKING_COMPLETION";
+    private static final String SLOT_CAPACITY_ADMISSION = "slot-capacity";
+    private static final Comparator<SlotKey> SLOT_ORDER =
+            Comparator.comparing(SlotKey::storeId).thenComparing(SlotKey::bookingDate);
+
     private final BookingRepository bookingRepository;
-    private final BookingStateCodeRepository stateCodeRepository;
-    private final MessageService messageService;
+    private final BookingStateCodeRegistry stateCodes;
+    private final NotificationOutboxRepository outboxRepository;
+    private final SeatOccupancyLedger occupancyLedger;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingResultBus bookingResultBus;
+    private final BatchJobStateRepository batchJobStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingMetrics bookingMetrics;
+    private final SlotCapacityAllocator slotCapacityAllocator;
+    private final SoldOutSlotRegistry soldOutSlots;
+    private final BookingIdempotencyStore idempotencyStore;
+    private final BookingWaitlistService waitlist;
 
-    /**
-     * 예약된 좌석 수 조회
-     * @param dateTime
-     * @return
-     */
-    public Integer getAvailableSeats(String storeId, LocalDateTime dateTime) {
-        log.info("예약된 좌석 수 조회");
-        return bookingRepository.sumCountByBookingDate(storeId, dateTime, 0);
-    }
+    // 좌석 확인 방식 - 두 방식 모두 수용은 SLOT_CAPACITY 조건부 차감으로 확정
+    // slot-capacity: 차감만, ledger: 차감 전에 좌석 원장으로 빠르게 거절 (DB 합계로 재확인 후)
+    @Value("${booking.admission.mode:ledger}")
+    private String admissionMode;
 
-    /*
-    예약 리스트 조회
-     */
-    public List<BookingListResponse> getBookingList(String userId) {
-        log.info("예약 리스트 조회");
-        List<Booking> bookings = bookingRepository.findAllByUserId(userId);
-        for (Booking booking : bookings) {
-            log.info("bookingNum={}", booking.getBookingNum());
-        }
-        return bookings.stream()
-                .map(b -> BookingListResponse.builder()
-                        .bookingNum(b.getBookingNum())
-                        .bookingDate(b.getBookingDate())
-                        .storeId(b.getStoreId())
-                        .bookingState(b.getBookingStateCode().getStateName())
-                        .build())
-                .collect(Collectors.toList());
-    }
+    @Value("${booking.completion.chunk-size:500}")
+    private int completionChunkSize;
 
-    /*
-    예약 상세 조회 - Booking
-     */
-    public Booking getBooking(Long bookingNum) {
-        return bookingRepository.findById(bookingNum)
-                .orElseThrow(() -> new EntityNotFoundException("Booking is not found"));
-    }
+    @Value("${booking.completion.overlap-minutes:60}")
+    private long completionOverlapMinutes;
 
     /*
-    예약 상세 조회 - BookingResponse
+    예약 상세 조회 - BookingResponse (주 DB)
+    대기 DB 에 아직 반영되지 않은 예약 조회용 - 일반 조회는 BookingQueryService
      */
     public BookingResponse getBookingResponse(Long bookingNum) {
-        log.info("예약 상세 조회");
+        log.info("예약 상세 조회 (주 DB)");
         Booking booking = bookingRepository.findById(bookingNum)
                 .orElseThrow(() -> new EntityNotFoundException("Booking is not found"));
-        return BookingResponse.builder()
-                .bookingNum(booking.getBookingNum())
-                .bookingDate(booking.getBookingDate())
-                .storeId(booking.getStoreId())
-                .bookingState(booking.getBookingStateCode().getStateName())
-                .count(booking.getCount())
-                .userId(booking.getUserId())
-                .build();
+        return toBookingResponse(booking, booking.getBookingStateCode().getBookingStateCode());
+    }
+
+    private BookingResponse toBookingResponse(Booking booking, int stateCode) {
+        // 상태명은 레지스트리에서 조회 (BOOKING_STATE_CODE 지연 로딩 없음)
+        return BookingResponse.of(booking, stateCodes.getStateName(stateCode));
     }
 
     /*
@@ -98,13 +99,20 @@ public class BookingService {
 //        log.info("전체좌석={}", request.getSeats());
 //        log.info("사용중인 좌석={}", getAvailableSeats(request.getStoreId(), request.getBookingDate()));
 //        log.info("예약할 좌석={}", request.getCount());
-        if (request.getSeats() - getAvailableSeats(request.getStoreId(), request.getBookingDate()) < request.getCount()) {
+        SlotKey slot = new SlotKey(request.getStoreId(), request.getBookingDate());
+        // 원장은 다른 태스크의 예약을 늦게 반영하므로 거절에만 사용하고, 수용은 SLOT_CAPACITY 차감으로 확정
+        boolean admitted = bookingMetrics.stage(BookingMetrics.OCCUPANCY_CHECK).record(() -> (isSlotCapacityAdmission()
+                || request.getSeats() - occupancyLedger.occupied(slot) >= request.getCount()
+                // 원장이 오래되었을 수 있으므로 거절 전에 DB로 재확인
+                || request.getSeats() - occupancyLedger.reconcile(slot) >= request.getCount())
+                && slotCapacityAllocator.reserve(slot, request.getSeats(), request.getCount()));
+        if (!admitted) {
             log.error("예약 가능한 좌석 수 초과");
+            soldOutSlots.markFull(slot, slotCapacityAllocator.remaining(slot, request.getSeats()));
             throw new IllegalStateException("예약 가능한 좌석 수를 초과하였습니다.");
         }
 
-        BookingStateCode stateCode = stateCodeRepository.findById(0)
-                .orElseThrow(() -> new EntityNotFoundException("code 0 is not found"));
+        BookingStateCode stateCode = stateCodes.get(BookingStateCodeRegistry.CONFIRMED);
         log.info("userId={}, storeId={}, bookingDate={}, count={}", request.getUserId(), request.getStoreId(), request.getBookingDate(), request.getCount());
         Booking booking = Booking.builder()
                 .userId(request.getUserId())
@@ -113,98 +121,308 @@ public class BookingService {
                 .count(request.getCount())
                 .stateCode(stateCode)
                 .build();
-        return bookingRepository.save(booking);
+        // INSERT 소요시간을 재기 위해 저장 시점에 flush
+        Booking savedBooking = bookingMetrics.stage(BookingMetrics.INSERT).record(() -> bookingRepository.saveAndFlush(booking));
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(slot, request.getCount()));
+        return savedBooking;
+    }
+
+    /**
+     * 예약 일괄 생성 - SQS 배치 수신용
+     * 슬롯(메시지 그룹)별로 좌석 수를 한 번만 조회해 순서대로 수용 여부를 판단하고, 수용된 예약을 한 번에 저장
+     * @return 요청 순서와 같은 예약 목록 (좌석 초과로 거절된 요청은 null)
+     */
+    public List<Booking> makeBookings(List<SQSBookingRequest> requests) {
+        log.info("예약 일괄 생성: size={}", requests.size());
+        BookingStateCode stateCode = stateCodes.get(BookingStateCodeRegistry.CONFIRMED);
+
+        // 슬롯 행(SLOT_CAPACITY) 잠금을 항상 같은 순서(가게 ID, 예약 시각)로 잡아 배치 간 교착을 막음 - 결과는 요청 순서 유지
+        Map<SlotKey, List<Integer>> groups = new TreeMap<>(SLOT_ORDER);
+        for (int i = 0; i < requests.size(); i++) {
+            SQSBookingRequest request = requests.get(i);
+            groups.computeIfAbsent(new SlotKey(request.getStoreId(), request.getBookingDate()), k -> new ArrayList<>()).add(i);
+        }
+
+        List<Booking> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        List<Booking> accepted = new ArrayList<>();
+        for (Map.Entry<SlotKey, List<Integer>> group : groups.entrySet()) {
+            SlotKey slot = group.getKey();
+            Timer.Sample occupancyCheck = Timer.start();
+            int occupied = isSlotCapacityAdmission() ? 0 : occupancyLedger.occupied(slot);
+            boolean reconciled = false;
+            int acceptedSeats = 0;
+            for (int index : group.getValue()) {
+                SQSBookingRequest request = requests.get(index);
+                if (request.getWaitlistId() != null && !waitlist.hold(request.getWaitlistId())) {
+                    log.info("대기열을 취소한 사용자의 승격 요청, 예약하지 않음: waitlistId={}", request.getWaitlistId());
+                    continue;
+                }
+                if (!isSlotCapacityAdmission() && request.getSeats() - occupied - acceptedSeats < request.getCount() && !reconciled) {
+                    // 원장이 오래되었을 수 있으므로 거절 전에 DB로 한 번 재확인
+                    occupied = occupancyLedger.reconcile(slot);
+                    reconciled = true;
+                }
+                // 원장으로 거절되지 않은 요청만 SLOT_CAPACITY 차감으로 확정
+                boolean admitted = (isSlotCapacityAdmission() || request.getSeats() - occupied - acceptedSeats >= request.getCount())
+                        && slotCapacityAllocator.reserve(slot, request.getSeats(), request.getCount());
+                if (!admitted) {
+                    log.warn("예약 가능한 좌석 수 초과: userId={}, storeId={}", request.getUserId(), request.getStoreId());
+                    soldOutSlots.markFull(slot, slotCapacityAllocator.remaining(slot, request.getSeats()));
+                    bookingMetrics.outcome(request.getStoreId(), rejectOrWaitlist(request));
+                    continue;
+                }
+                Booking booking = Booking.builder()
+                        .userId(request.getUserId())
+                        .storeId(request.getStoreId())
+                        .bookingDate(request.getBookingDate())
+                        .count(request.getCount())
+                        .stateCode(stateCode)
+                        .build();
+                results.set(index, booking);
+                accepted.add(booking);
+                acceptedSeats += request.getCount();
+            }
+            occupancyCheck.stop(bookingMetrics.stage(BookingMetrics.OCCUPANCY_CHECK));
+            if (acceptedSeats > 0) {
+                eventPublisher.publishEvent(new SlotOccupancyChangedEvent(slot, acceptedSeats));
+            }
+        }
+
+        // INSERT 소요시간을 재기 위해 저장 시점에 flush (JDBC 배치는 flush 에서도 적용)
+        bookingMetrics.stage(BookingMetrics.INSERT).record(() -> bookingRepository.saveAllAndFlush(accepted));
+        for (int i = 0; i < requests.size(); i++) {
+            if (results.get(i) != null) {
+                enqueueNotification(results.get(i), requests.get(i).getUserName());
+                bookingMetrics.outcome(requests.get(i).getStoreId(), BookingMetrics.Outcome.ACCEPTED);
+                if (requests.get(i).getWaitlistId() != null) {
+                    waitlist.resolve(requests.get(i).getWaitlistId(), true);
+                }
+            }
+            BookingStatusMessage result = resultMessage(requests.get(i), results.get(i));
+            if (result != null) {
+                recordResult(requests.get(i), result);
+            }
+        }
+        log.info("예약 일괄 생성 완료: accepted={}, rejected={}", accepted.size(), requests.size() - accepted.size());
+        return results;
     }
 
     /**
      * 예약 생성 - SQS 사용
+     * 메시지 수신 및 ack 는 BookingRequestListener / BookingBatchListener 에서 처리
      */
-    @SqsListener(value = "BookingService.fifo", acknowledgementMode = "MANUAL")
-    public void handleBookingRequest(SQSBookingRequest request, Acknowledgement acknowledgement) {
+    public void handleBookingRequest(SQSBookingRequest request) {
 
         log.info("SQS 큐 예약 요청 메시지 수신: userId={}", request.getUserId());
+        if (respondIfDuplicate(request)) {
+            return;
+        }
 
+        // 대기열 승격 요청은 항목을 잠근 뒤 처리 - 그사이 대기열을 취소했으면 예약하지 않음
+        if (request.getWaitlistId() != null && !waitlist.hold(request.getWaitlistId())) {
+            log.info("대기열을 취소한 사용자의 승격 요청, 예약하지 않음: waitlistId={}", request.getWaitlistId());
+            return;
+        }
+
+        BookingStatusMessage result;
+        Booking savedBooking = null;
         try {
-            Booking savedBooking = makeBooking(request);
-            log.info("예약 생성 완료, 문자 발송 시작");
-            messageService.sendMessage(savedBooking, request.getUserName());
+            savedBooking = makeBooking(request);
+            log.info("예약 생성 완료, 문자 발송 예약");
+            enqueueNotification(savedBooking, request.getUserName());
+            bookingMetrics.outcome(request.getStoreId(), BookingMetrics.Outcome.ACCEPTED);
 
-            sendSseEvent(request.getUserId(), new BookingStatusMessage("success", "예약이 성공적으로 완료되었습니다.", savedBooking.getBookingNum()));
-            acknowledgement.acknowledge();
+            result = resultMessage(request, savedBooking);
 
-        } catch (IllegalStateException e) { // SSE로 실패 메시지 전송
+        } catch (IllegalStateException e) { // SSE로 실패 메시지 전송 (대기열 등록 시 대기 메시지)
             log.warn("예약 가능한 좌석을 초과했습니다. userId={}", request.getUserId());
-            sendSseEvent(request.getUserId(), new BookingStatusMessage("failure", "예약 가능한 좌석 수를 초과하였습니다.", null));
-            acknowledgement.acknowledge();
-        } catch (Exception e) { // SSE로 기타 오류 메시지 전송
+            bookingMetrics.outcome(request.getStoreId(), rejectOrWaitlist(request));
+            result = resultMessage(request, null);
+        } catch (Exception e) { // SSE로 기타 오류 메시지 전송 - 일시적 오류일 수 있으므로 멱등 키 결과는 저장하지 않음
             log.error("예약 처리 중 오류 발생: {}", e.getMessage());
+            bookingMetrics.outcome(request.getStoreId(), BookingMetrics.Outcome.ERROR);
+            if (request.getWaitlistId() != null) {
+                waitlist.resolve(request.getWaitlistId(), false);
+            }
             sendSseEvent(request.getUserId(), new BookingStatusMessage("failure", "예약 처리 중 오류가 발생했습니다.", null));
-            acknowledgement.acknowledge();
+            return;
+        }
+        // 대기열 항목이 없으면 예외로 예약까지 롤백 (catch 밖에서 호출)
+        if (savedBooking != null && request.getWaitlistId() != null) {
+            waitlist.resolve(request.getWaitlistId(), true);
+        }
+        if (result == null) {
+            return;
         }
+        recordResult(request, result);
+        sendSseEvent(request.getUserId(), result);
+    }
+
+    /**
+     * 예약 결과 메시지 (booking 이 null 이면 좌석 초과)
+     * 다시 거절된 대기열 승격 요청은 null - 대기 상태가 그대로이므로 알리지 않음
+     */
+    public static BookingStatusMessage resultMessage(SQSBookingRequest request, Booking booking) {
+        if (booking != null) {
+            return new BookingStatusMessage("success", "예약이 성공적으로 완료되었습니다.", booking.getBookingNum());
+        }
+        if (request.getWaitlistId() != null) {
+            return null;
+        }
+        if (request.isWaitlist()) {
+            return new BookingStatusMessage("waiting", "대기열에 등록되었습니다. 좌석이 생기면 자동으로 예약됩니다.", null);
+        }
+        return new BookingStatusMessage("failure", "예약 가능한 좌석 수를 초과하였습니다.", null);
+    }
+
+    /**
+     * 좌석 초과로 거절된 요청의 대기열 처리 - 승격 요청은 대기 상태로 복귀, waitlist=true 면 대기열 등록
+     */
+    private BookingMetrics.Outcome rejectOrWaitlist(SQSBookingRequest request) {
+        if (request.getWaitlistId() != null) {
+            waitlist.resolve(request.getWaitlistId(), false);
+            return BookingMetrics.Outcome.REJECTED_FULL;
+        }
+        if (request.isWaitlist()) {
+            waitlist.join(request);
+            return BookingMetrics.Outcome.WAITLISTED;
+        }
+        return BookingMetrics.Outcome.REJECTED_FULL;
+    }
+
+    /**
+     * 같은 멱등 키로 이미 처리된 요청이면 이전 결과를 SSE 로 다시 보내고 true 반환
+     * 방금 커밋된 키도 보이도록 주 DB 에서 조회 (읽기-쓰기 트랜잭션)
+     */
+    public boolean respondIfDuplicate(SQSBookingRequest request) {
+        if (request.getIdempotencyKey() == null) {
+            return false;
+        }
+        Optional<BookingStatusMessage> previous = idempotencyStore.find(request.getIdempotencyKey());
+        if (previous.isEmpty()) {
+            return false;
+        }
+        log.info("중복 예약 요청, 이전 결과로 응답: userId={}, idempotencyKey={}", request.getUserId(), request.getIdempotencyKey());
+        bookingMetrics.outcome(request.getStoreId(), BookingMetrics.Outcome.DUPLICATE);
+        sendSseEvent(request.getUserId(), previous.get());
+        return true;
+    }
+
+    /**
+     * 멱등 키 처리 결과 저장 - 예약과 같은 트랜잭션
+     * 같은 키를 다른 소비자가 먼저 저장했으면 PK 위반으로 예약까지 롤백되고, 메시지 재수신 시 이전 결과로 응답
+     */
+    private void recordResult(SQSBookingRequest request, BookingStatusMessage result) {
+        if (request.getIdempotencyKey() != null) {
+            idempotencyStore.record(request.getIdempotencyKey(), result);
+        }
+    }
+
+    /**
+     * 예약 완료 문자 발송을 아웃박스에 저장 - 예약과 같은 트랜잭션에서 커밋되고 NotificationRelay 가 발송
+     */
+    private void enqueueNotification(Booking booking, String userName) {
+        outboxRepository.save(NotificationOutbox.builder()
+                .booking(booking)
+                .userName(userName)
+                .createdAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+                .build());
     }
 
     /*
     예약 취소
+    본인의 CONFIRMED 예약만 취소 - 소유자/상태 조건을 건 UPDATE 한 번으로 권한 확인과 취소를 함께 처리
      */
-    public void cancelBooking(Long bookingNum) {
+    public BookingResponse cancelBooking(Long bookingNum, String userId) {
         log.info("예약 취소");
+        int updated = bookingRepository.updateStateCodeByOwner(bookingNum, userId,
+                BookingStateCodeRegistry.CONFIRMED, stateCodes.get(BookingStateCodeRegistry.CANCELED));
         Booking booking = bookingRepository.findById(bookingNum)
                 .orElseThrow(() -> new EntityNotFoundException("Booking is not found"));
-        BookingStateCode stateCode = stateCodeRepository.findById(1)
-                .orElseThrow(() -> new EntityNotFoundException("code 1 is not found"));
-        booking.setBookingStateCode(stateCode);
+
+        if (updated == 0) {
+            // 취소되지 않은 경우에만 원인 확인
+            if (!booking.getUserId().equals(userId)) {
+                log.error("예약 취소 권한이 없습니다: userId={}, bookingOwnerId={}", userId, booking.getUserId());
+                throw new AccessDeniedException("예약 취소 권한이 없습니다.");
+            }
+            throw new BookingConflictException("취소할 수 없는 예약입니다.");
+        }
+
+        SlotKey slot = new SlotKey(booking.getStoreId(), booking.getBookingDate());
+        slotCapacityAllocator.release(slot, booking.getCount());
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(slot, -booking.getCount()));
+        return toBookingResponse(booking, BookingStateCodeRegistry.CANCELED);
     }
 
     /**
      * 1시간마다 배치작업으로 상태코드 변경
+     * 지난 실행의 워터마크 이후 시간이 지난 CONFIRMED 예약을 BOOKING_NUM 순으로 chunkSize 건씩 나눠 일괄 UPDATE 하고 청크마다 커밋
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateBookingState() {
         log.info("배치작업 시작");
+        long startedAt = System.currentTimeMillis();
         // 한국 시간(Asia/Seoul)으로 ZonedDateTime 객체 생성
         ZonedDateTime nowInSeoul = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
 
         // ZonedDateTime에서 LocalDateTime으로 변환
         LocalDateTime now = nowInSeoul.toLocalDateTime();
-        log.info("배치작업 기준 현재 시간: {}", now);
 
-        // 1. 현재 시간이 지난 CONFIRMED 상태의 예약 조회
-        List<Booking> bookingsToUpdate = bookingRepository.
-                findByBookingDateLessThanEqualAndBookingStateCode_BookingStateCode(now, 0);
+        // 1. 처리 구간 (지난 워터마크 - overlap, 현재 시간] - 최초 실행 시 전체
+        LocalDateTime from = batchJobStateRepository.findById(COMPLETION_JOB)
+                .map(state -> state.getWatermark().minusMinutes(completionOverlapMinutes))
+                .orElse(LocalDateTime.of(1970, 1, 1, 0, 0));
+        log.info("배치작업 처리 구간: ({}, {}]", from, now);
 
-        if (bookingsToUpdate.isEmpty()) {
-            log.info("업데이트할 예약 없음");
-            return;
+        // 2. 청크 단위로 CONFIRMED -> COMPLETED
+        long afterBookingNum = 0;
+        int chunks = 0;
+        int updatedTotal = 0;
+        while (true) {
+            List<Long> bookingNums = bookingRepository.findBookingNumsByStateCodeAndDateRange(
+                    BookingStateCodeRegistry.CONFIRMED, from, now, afterBookingNum, Limit.of(completionChunkSize));
+            if (bookingNums.isEmpty()) {
+                break;
+            }
+            long chunkStartedAt = System.currentTimeMillis();
+            Integer updated = transactionTemplate.execute(status ->
+                    bookingRepository.updateStateCode(bookingNums, BookingStateCodeRegistry.CONFIRMED,
+                            stateCodes.get(BookingStateCodeRegistry.COMPLETED)));
+            chunks++;
+            updatedTotal += updated == null ? 0 : updated;
+            afterBookingNum = bookingNums.get(bookingNums.size() - 1);
+            log.info("배치작업 청크 완료: chunk={}, rows={}, lastBookingNum={}, elapsed={}ms",
+                    chunks, updated, afterBookingNum, System.currentTimeMillis() - chunkStartedAt);
+            if (bookingNums.size() < completionChunkSize) {
+                break;
+            }
         }
 
-        // 2. COMPLETED 상태 코드 엔티티 가져오기
-        BookingStateCode completedStateCode = stateCodeRepository.findById(2)
-                .orElseThrow(() -> new RuntimeException("COMPLETED state code not found"));
+        // 3. 워터마크 갱신, 지난 슬롯의 잔여 좌석 행 정리
+        transactionTemplate.executeWithoutResult(status -> {
+            batchJobStateRepository.save(new BatchJobState(COMPLETION_JOB, now));
+            log.info("지난 슬롯 잔여 좌석 정리: {}건", slotCapacityAllocator.purgeUntil(now));
+            log.info("보관 기간 지난 멱등 키 정리: {}건", idempotencyStore.purge(now));
+            log.info("지난 슬롯 예약 대기열 정리: {}건", waitlist.purgeUntil(now));
+        });
 
-        // 3. 상태 업데이트
-        for (Booking booking : bookingsToUpdate) {
-            booking.setBookingStateCode(completedStateCode);
+        if (updatedTotal > 0) {
+            eventPublisher.publishEvent(new BookingsCompletedEvent(now));
         }
+        log.info("배치작업 종료: 청크 수={}, 업데이트된 예약 수={}, 소요시간={}ms",
+                chunks, updatedTotal, System.currentTimeMillis() - startedAt);
+    }
 
-        log.info("업데이트된 예약 수: {}", bookingsToUpdate.size());
+    private boolean isSlotCapacityAdmission() {
+        return SLOT_CAPACITY_ADMISSION.equals(admissionMode);
     }
 
     /**
-     * SSE 이벤트 전송
+     * SSE 이벤트 전송 - 사용자의 SSE 연결을 가진 태스크로 전달 (BookingResultBus)
      */
-    private void sendSseEvent(String userId, BookingStatusMessage payload) {
-        SseEmitter emitter = BookingController.emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().data(payload));
-                // 전송 성공 시 연결을 닫고 맵에서 제거
-                emitter.complete();
-                BookingController.emitters.remove(userId);
-            } catch (IOException e) {
-                log.error("SSE send failed for userId={}: {}", userId, e.getMessage());
-                BookingController.emitters.remove(userId);
-            }
-        } else {
-            log.warn("No SseEmitter found for userId={}", userId);
-        }
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void sendSseEvent(String userId, BookingStatusMessage payload) {
+        bookingResultBus.publish(userId, payload);
     }
 }
@@ -0,0 +1,63 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.BookingStateCode;
+import fog.booking_service.repositoroy.BookingStateCodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 상태 코드 (BOOKING_STATE_CODE) - 기동 시 한 번 읽어 메모리에 보관
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BookingStateCodeRegistry {
+
+    public static final int CONFIRMED = 0;
+    public static final int CANCELED = 1;
+    public static final int COMPLETED = 2;
+
+    private final BookingStateCodeRepository stateCodeRepository;
+
+    private Map<Integer, BookingStateCode> stateCodes = Map.of();
+
+    @PostConstruct
+    void load() {
+        stateCodes = Map.copyOf(stateCodeRepository.findAll().stream()
+                .collect(Collectors.toMap(BookingStateCode::getBookingStateCode, Function.identity())));
+        log.info("예약 상태 코드 적재: {}", stateCodes.keySet());
+    }
+
+    /**
+     * 상태 코드 엔티티 - 예약 저장/수정 시 연관관계 값으로 사용
+     */
+    public BookingStateCode get(int code) {
+        BookingStateCode stateCode = stateCodes.get(code);
+        if (stateCode == null) {
+            throw new EntityNotFoundException("code " + code + " is not found");
+        }
+        return stateCode;
+    }
+
+    public String getStateName(int code) {
+        return get(code).getStateName();
+    }
+
+    /**
+     * 상태명(CONFIRMED, CANCELED, COMPLETED)으로 코드 조회
+     */
+    public Optional<Integer> findCode(String stateName) {
+        return stateCodes.values().stream()
+                .filter(stateCode -> stateCode.getStateName().equalsIgnoreCase(stateName))
+                .map(BookingStateCode::getBookingStateCode)
+                .findFirst();
+    }
+}
@@ -0,0 +1,210 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.BookingWaitlist;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.event.WaitlistOffersClaimedEvent;
+import fog.booking_service.exception.BookingConflictException;
+import fog.booking_service.repositoroy.BookingWaitlistRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 슬롯별 예약 대기열
+ * 좌석 초과로 거절된 요청(waitlist=true)을 등록하고, 취소 트랜잭션에서 생긴 좌석 수만큼 대기열 앞에서부터 제안을 선점해 커밋 후 예약 요청을 다시 보낸다.
+ * 좌석 확인은 일반 예약과 같이 소비자가 하므로 승격 요청도 다시 거절될 수 있으며, 이때는 순서를 유지한 채 대기 상태로 돌아간다.
+ * 결과가 반영되지 않은 제안(메시지 유실, 소비자 중단)은 offer-lease-ms 후 대기 상태로 회수해 다시 제안한다.
+ * 결과는 일반 예약과 같이 SSE 로 전달 (대기 중인 사용자는 booking-status 에 다시 연결해 기다림)
+ * 모든 DB 작업은 호출자 트랜잭션에 참여 (트랜잭션 밖에서 호출되면 새로 시작) - 한 요청이 커넥션을 두 개 쓰지 않음
+ */
+@Component
+@Slf4j
+public class BookingWaitlistService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String INSERT_SQL = "INSERT INTO BOOKING_WAITLIST " +
+            "(WAITLIST_ID, STORE_ID, BOOKING_DATE, USER_ID, USER_NAME, COUNT, SEATS, STATUS, OFFERS, CREATED_AT) " +
+            "VALUES (BOOKING_WAITLIST_SEQ.NEXTVAL, ?, ?, ?, ?, ?, ?, '" + BookingWaitlist.WAITING + "', 0, ?)";
+
+    private final BookingWaitlistRepository waitlistRepository;
+    private final BookingRequestSender bookingRequestSender;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 취소 1건당 확인하는 대기열 앞부분 건수
+    @Value("${booking.waitlist.promotion-scan:10}")
+    private int promotionScan;
+
+    // 제안 후 이 시간 안에 결과가 반영되지 않으면 대기 상태로 회수
+    @Value("${booking.waitlist.offer-lease-ms:300000}")
+    private long offerLeaseMillis;
+
+    @Value("${booking.waitlist.offer-sweep-size:100}")
+    private int offerSweepSize;
+
+    public BookingWaitlistService(BookingWaitlistRepository waitlistRepository, BookingRequestSender bookingRequestSender,
+                                  ApplicationEventPublisher eventPublisher, JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.waitlistRepository = waitlistRepository;
+        this.bookingRequestSender = bookingRequestSender;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대기열 등록 - 호출자 트랜잭션에 참여
+     * 이미 등록된 사용자(동시 등록 포함)는 유니크 제약 위반을 무시하고 기존 항목(순번) 유지
+     * INSERT 는 JdbcTemplate 로 실행 - 실패한 문장만 롤백되고 호출자 트랜잭션(Hibernate 세션)은 rollback-only 가 되지 않음
+     */
+    public void join(SQSBookingRequest request) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, request.getStoreId(), Timestamp.valueOf(request.getBookingDate()), request.getUserId(),
+                    request.getUserName(), request.getCount(), request.getSeats(), Timestamp.valueOf(LocalDateTime.now(ZONE)));
+            log.info("예약 대기열 등록: userId={}, storeId={}, bookingDate={}", request.getUserId(), request.getStoreId(), request.getBookingDate());
+        } catch (DuplicateKeyException e) {
+            log.info("이미 등록된 예약 대기열: userId={}, storeId={}, bookingDate={}", request.getUserId(), request.getStoreId(), request.getBookingDate());
+        }
+    }
+
+    /**
+     * 대기열 취소 - 처리 중인 승격 요청이 있으면(hold) 그 트랜잭션이 끝날 때까지 기다림
+     */
+    public boolean leave(SlotKey slot, String userId) {
+        return transactionTemplate.execute(status -> waitlistRepository.deleteByOwner(slot.storeId(), slot.bookingDate(), userId)) > 0;
+    }
+
+    /**
+     * 승격 요청 처리 시작 - 대기열 항목을 트랜잭션 종료까지 잠금
+     * @return 사용자가 이미 대기열을 취소했으면 false (예약하지 않음)
+     */
+    public boolean hold(Long waitlistId) {
+        return waitlistRepository.findLockedByWaitlistId(waitlistId).isPresent();
+    }
+
+    /**
+     * 승격 요청 처리 결과 반영 - 소비자 트랜잭션에 참여 (예약되면 삭제, 다시 거절되면 대기 상태로 복귀)
+     * 예약됐는데 항목이 없으면(대기열 취소) 예외 - 예약 트랜잭션을 롤백
+     */
+    public void resolve(Long waitlistId, boolean booked) {
+        if (!booked) {
+            waitlistRepository.requeue(waitlistId);
+            return;
+        }
+        if (waitlistRepository.deleteByWaitlistId(waitlistId) == 0) {
+            log.warn("대기열을 취소한 사용자의 승격 요청: waitlistId={}", waitlistId);
+            throw new BookingConflictException("예약 대기열을 취소한 요청입니다.");
+        }
+    }
+
+    /**
+     * 지난 슬롯 대기열 정리 - 예약 완료 배치에서 호출
+     */
+    public int purgeUntil(LocalDateTime until) {
+        return waitlistRepository.deleteByBookingDateUntil(until);
+    }
+
+    /**
+     * 취소 트랜잭션 커밋 직전에 같은 트랜잭션(같은 커넥션)에서 제안 선점 - 취소가 롤백되면 선점도 롤백
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onOccupancyChanged(SlotOccupancyChangedEvent event) {
+        if (event.delta() < 0 && event.slot().bookingDate().isAfter(LocalDateTime.now(ZONE))) {
+            transactionTemplate.executeWithoutResult(status -> promote(event.slot(), -event.delta()));
+        }
+    }
+
+    /**
+     * 선점한 제안의 예약 요청 전송 (커밋 후)
+     * 전송에 실패한 제안은 OFFERED 로 남고 기한이 지나면 reclaimExpiredOffers 가 회수해 다시 제안
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOffersClaimed(WaitlistOffersClaimedEvent event) {
+        for (BookingWaitlist entry : event.offered()) {
+            SQSBookingRequest request = new SQSBookingRequest();
+            request.setBookingDate(entry.getBookingDate());
+            request.setUserId(entry.getUserId());
+            request.setStoreId(entry.getStoreId());
+            request.setCount(entry.getCount());
+            request.setSeats(entry.getSeats());
+            request.setUserName(entry.getUserName());
+            request.setWaitlistId(entry.getWaitlistId());
+            try {
+                bookingRequestSender.send(request, "waitlist-" + entry.getWaitlistId() + "-" + (entry.getOffers() + 1));
+                log.info("예약 대기열 승격 요청: waitlistId={}, userId={}, storeId={}", entry.getWaitlistId(), entry.getUserId(), entry.getStoreId());
+            } catch (Exception e) {
+                log.error("예약 대기열 승격 요청 전송 실패, 제안 기한 후 다시 제안: waitlistId={}, error={}", entry.getWaitlistId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 기한이 지난 제안을 대기 상태로 회수하고, 회수한 좌석 수만큼 해당 슬롯에 다시 제안
+     * 여러 태스크가 동시에 실행해도 회수는 조건부 UPDATE 로 한 태스크만 성공
+     */
+    @Scheduled(fixedDelayString = "${booking.waitlist.offer-sweep-interval-ms:60000}")
+    public void reclaimExpiredOffers() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        LocalDateTime expiredBefore = now.minus(Duration.ofMillis(offerLeaseMillis));
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<SlotKey, Integer> reclaimed = new LinkedHashMap<>();
+            for (BookingWaitlist entry : waitlistRepository.findExpiredOffers(expiredBefore, Limit.of(offerSweepSize))) {
+                if (waitlistRepository.requeueExpired(entry.getWaitlistId(), expiredBefore) == 1) {
+                    reclaimed.merge(new SlotKey(entry.getStoreId(), entry.getBookingDate()), entry.getCount(), Integer::sum);
+                }
+            }
+            if (reclaimed.isEmpty()) {
+                return;
+            }
+            log.info("만료된 예약 대기열 제안 회수: slots={}", reclaimed.size());
+            reclaimed.forEach((slot, seats) -> {
+                if (slot.bookingDate().isAfter(now)) {
+                    promote(slot, seats);
+                }
+            });
+        });
+    }
+
+    /**
+     * 생긴 좌석 수 안에서 대기열 앞에서부터 선점 (앞 사람이 들어가지 못하면 뒤 사람도 건너뛰지 않음) - 현재 트랜잭션에서 실행
+     */
+    private void promote(SlotKey slot, int freedSeats) {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<BookingWaitlist> claimed = new ArrayList<>();
+        int remaining = freedSeats;
+        for (BookingWaitlist head : waitlistRepository.findWaiting(slot.storeId(), slot.bookingDate(), Limit.of(promotionScan))) {
+            if (head.getCount() > remaining) {
+                break;
+            }
+            // 다른 태스크의 취소가 먼저 선점했으면 다음 사람
+            if (waitlistRepository.offer(head.getWaitlistId(), now) == 1) {
+                claimed.add(head);
+                remaining -= head.getCount();
+            }
+        }
+        if (!claimed.isEmpty()) {
+            eventPublisher.publishEvent(new WaitlistOffersClaimedEvent(claimed));
+        }
+    }
+}
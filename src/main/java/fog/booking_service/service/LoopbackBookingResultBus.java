@@ -0,0 +1,26 @@
+package fog.booking_service.service;
+
+import fog.booking_service.dto.BookingStatusMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 프로세스의 SSE 연결로만 전달 (단일 태스크, 로컬/테스트 환경)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "booking.result-bus.type", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackBookingResultBus implements BookingResultBus {
+
+    private final SseConnectionHub sseConnectionHub;
+
+    @Override
+    public void publish(String userId, BookingStatusMessage result) {
+        if (!sseConnectionHub.sendAndComplete(userId, result)) {
+            log.warn("No SseEmitter found for userId={}", userId);
+        }
+    }
+}
@@ -1,19 +1,25 @@
 package fog.booking_service.service;
 
 import fog.booking_service.domain.Booking;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.*;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,16 +31,45 @@ public class MessageService {
 
     private final SnsClient snsClient;
     private final CognitoIdentityProviderClient cognitoClient;
-    private final RestTemplate restTemplate;
+    private final StoreDirectory storeDirectory;
+    private final MeterRegistry meterRegistry;
+    private final BookingMetrics bookingMetrics;
+
+    @Value("${aws.cognito.phone-cache.maximum-size:50000}")
+    private long phoneCacheMaximumSize;
+
+    @Value("${aws.cognito.phone-cache.ttl-ms:3600000}")
+    private long phoneCacheTtlMillis;
+
+    @Value("${aws.cognito.phone-cache.negative-ttl-ms:300000}")
+    private long phoneCacheNegativeTtlMillis;
+
+    // username -> 전화번호 (전화번호가 없거나 없는 사용자는 Optional.empty 로 짧게 캐시)
+    private Cache<String, Optional<String>> phoneNumbers;
+
+    @PostConstruct
+    void initPhoneNumberCache() {
+        phoneNumbers = Caffeine.newBuilder()
+                .maximumSize(phoneCacheMaximumSize)
+                .expireAfter(Expiry.creating((String userName, Optional<String> phoneNumber) ->
+                        Duration.ofMillis(phoneNumber.isPresent() ? phoneCacheTtlMillis : phoneCacheNegativeTtlMillis)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, phoneNumbers, "cognito.phone-number");
+    }
 
     public void sendMessage(Booking booking, String userName) {
+        sendMessage(booking.getStoreId(), booking.getBookingDate(), booking.getCount(), userName);
+    }
+
+    /**
+     * 예약 완료 문자 발송 - Cognito/SNS 오류는 호출자(NotificationRelay)가 재시도할 수 있도록 그대로 전파
+     */
+    public void sendMessage(String storeId, LocalDateTime bookingDate, int count, String userName) {
         // 1. Cognito에서 전화번호 조회
         String phoneNumber = getPhoneNumberFromCognito(userName);
-        LocalDateTime bookingDate = booking.getBookingDate();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH");
         String date = bookingDate.format(formatter);
-        int count = booking.getCount();
-        String storeId = booking.getStoreId();
 
         // 2. 예약 완료 문자 발송
         if (phoneNumber != null) {
@@ -46,6 +81,11 @@ public class MessageService {
     }
 
     private String getPhoneNumberFromCognito(String userName) {
+        // Cognito 오류는 캐시하지 않고 그대로 전파
+        return phoneNumbers.get(userName, this::loadPhoneNumber).orElse(null);
+    }
+
+    private Optional<String> loadPhoneNumber(String userName) {
         try {
             log.info("userPoolId={}, userName={}", userPoolId, userName);
             AdminGetUserRequest request = AdminGetUserRequest.builder()
@@ -53,50 +93,32 @@ public class MessageService {
                     .username(userName)
                     .build();
 
-            AdminGetUserResponse response = cognitoClient.adminGetUser(request);
+            AdminGetUserResponse response = bookingMetrics.stage(BookingMetrics.COGNITO_LOOKUP)
+                    .record(() -> cognitoClient.adminGetUser(request));
 
             for (AttributeType attribute : response.userAttributes()) {
                 if (attribute.name().equals("phone_number")) {
                     log.info("문자를 발송할 전화번호:{}", attribute.value());
-                    return attribute.value();
+                    return Optional.of(attribute.value());
                 }
             }
         } catch (UserNotFoundException e) {
             log.warn("Cognito User Pool에서 사용자를 찾을 수 없습니다: {}", userName);
         } catch (CognitoIdentityProviderException e) {
-            // 기타 Cognito 관련 예외 처리
+            // 기타 Cognito 관련 예외 처리 - 재시도 대상
             log.error("Cognito에서 사용자 정보 조회 중 오류가 발생했습니다: {}", e.awsErrorDetails().errorMessage());
-        } catch (Exception e) {
-            // 기타 예외 처리
-            log.error("예상치 못한 오류가 발생했습니다: {}", e.getMessage());
+            throw e;
         }
-        return  null; //오류 발생
+        return Optional.empty(); //사용자 없음 또는 전화번호 없음
     }
 
     private String getStoreName(String storeId) {
-        try {
-            // Store Service에서 가게 목록 조회
-            String storeServiceUrl = "https://talkingpotato.shop/api/stores";
-            log.info("Store Service 호출: {}", storeServiceUrl);
-            
-            Map[] stores = restTemplate.getForObject(storeServiceUrl, Map[].class);
-            
-            if (stores != null) {
-                for (Map<String, Object> store : stores) {
-                    if (storeId.equals(store.get("storeId"))) {
-                        String storeName = (String) store.get("storeName");
-                        log.info("가게 이름 조회 성공: {} -> {}", storeId, storeName);
-                        return storeName;
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            log.warn("Store Service에서 가게 정보 조회 실패: storeId={}, error={}", storeId, e.getMessage());
-        }
-        
-        // 실패 시 기본값 반환
-        return "Talking Potato " + storeId;
+        // 캐시된 가게 목록에서 조회, 실패 시 기본값 반환
+        return bookingMetrics.stage(BookingMetrics.STORE_LOOKUP).record(() -> storeDirectory.findStoreName(storeId))
+                .orElseGet(() -> {
+                    log.warn("가게 정보 조회 실패: storeId={}", storeId);
+                    return "Talking Potato " + storeId;
+                });
     }
 
     private void publishSmsMessage(String phoneNumber, String message) {
@@ -106,11 +128,12 @@ public class MessageService {
                     .phoneNumber(phoneNumber)
                     .build();
 
-            snsClient.publish(request);
+            bookingMetrics.stage(BookingMetrics.SNS_PUBLISH).record(() -> snsClient.publish(request));
             log.info("문자 메시지 발송 완료: " + phoneNumber);
 
         } catch (Exception e) {
             log.info("문자 메시지 발송 실패: " + e.getMessage());
+            throw e;
         }
     }
 }
@@ -0,0 +1,152 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.NotificationOutbox;
+import fog.booking_service.repositoroy.NotificationOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 아웃박스 릴레이 - 발송 대기 알림을 배치로 선점해 전용 워커 풀에서 발송하고, 실패 시 지수 백오프로 재시도
+ * (가상 스레드 모드에서는 알림마다 가상 스레드에서 발송, 동시 발송 수는 배치 크기로 제한됨)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationRelay {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final int LAST_ERROR_BYTES = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final MessageService messageService;
+    private final Environment environment;
+
+    @Value("${booking.notification.relay.batch-size:50}")
+    private int batchSize;
+
+    @Value("${booking.notification.relay.pool-size:4}")
+    private int poolSize;
+
+    @Value("${booking.notification.relay.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${booking.notification.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${booking.notification.relay.backoff-ms:2000}")
+    private long backoffMillis;
+
+    private Executor workers;
+
+    @PostConstruct
+    void init() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            workers = new VirtualThreadTaskExecutor("notification-");
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 가득 차면 릴레이 스레드가 직접 발송 (배치 크기 이상으로 쌓이지 않음)
+        workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                runnable -> new Thread(runnable, "notification-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.notification.relay.interval-ms:1000}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<Long> ids = outboxRepository.findReadyIds(now, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (outboxRepository.claim(ids, token, now, now.plus(Duration.ofMillis(leaseMillis))) == 0) {
+            return;
+        }
+        List<NotificationOutbox> claimed = outboxRepository.findByClaimToken(token);
+        CompletableFuture.allOf(claimed.stream()
+                .map(outbox -> CompletableFuture.runAsync(() -> deliver(outbox), workers))
+                .toArray(CompletableFuture[]::new)).join();
+        log.info("알림 아웃박스 발송 처리: claimed={}", claimed.size());
+    }
+
+    /**
+     * 발송 후 결과를 선점 토큰 조건부로 반영 - lease 가 지나 다른 태스크가 다시 선점한 행은 덮어쓰지 않음
+     */
+    private void deliver(NotificationOutbox outbox) {
+        String token = outbox.getClaimToken();
+        try {
+            messageService.sendMessage(outbox.getStoreId(), outbox.getBookingDate(), outbox.getCount(), outbox.getUserName());
+            if (outboxRepository.deleteClaimed(outbox.getOutboxId(), token) == 0) {
+                log.warn("알림 발송 완료 전 선점 만료: bookingNum={}", outbox.getBookingNum());
+            }
+        } catch (Exception e) {
+            int attempts = outbox.getAttempts() + 1;
+            String status = NotificationOutbox.PENDING;
+            LocalDateTime nextAttemptAt = outbox.getNextAttemptAt();
+            if (attempts >= maxAttempts) {
+                status = NotificationOutbox.FAILED;
+                log.error("알림 발송 최종 실패: bookingNum={}, attempts={}, error={}", outbox.getBookingNum(), attempts, e.getMessage());
+            } else {
+                long delay = backoffMillis << (attempts - 1);
+                nextAttemptAt = LocalDateTime.now(ZONE).plus(Duration.ofMillis(delay));
+                log.warn("알림 발송 실패, 재시도 예정: bookingNum={}, attempts={}, error={}", outbox.getBookingNum(), attempts, e.getMessage());
+            }
+            String lastError = truncateUtf8(e.getMessage() == null ? e.getClass().getName() : e.getMessage(), LAST_ERROR_BYTES);
+            if (outboxRepository.recordFailure(outbox.getOutboxId(), token, attempts, status, nextAttemptAt, lastError) == 0) {
+                log.warn("알림 발송 실패 기록 전 선점 만료: bookingNum={}", outbox.getBookingNum());
+            }
+        }
+    }
+
+    /**
+     * LAST_ERROR(VARCHAR2(500), 바이트 단위)에 맞게 UTF-8 바이트 길이로 자름 - 잘린 멀티바이트 문자는 버림
+     */
+    static String truncateUtf8(String value, int maxBytes) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) {
+            return value;
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.IGNORE);
+        try {
+            return decoder.decode(ByteBuffer.wrap(bytes, 0, maxBytes)).toString();
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
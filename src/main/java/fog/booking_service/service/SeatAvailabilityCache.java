@@ -0,0 +1,65 @@
+package fog.booking_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.event.BookingsCompletedEvent;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.repositoroy.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 좌석 조회 API(/api/bookings/seats/{storeId}) 응답 캐시
+ * 이 태스크에서 커밋된 예약 생성/취소/완료 시 해당 슬롯만 무효화하고, 다른 태스크의 변경은 ttl 로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityCache {
+
+    private final BookingRepository bookingRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.seat-cache.maximum-size:100000}")
+    private long maximumSize;
+
+    @Value("${booking.seat-cache.ttl-ms:5000}")
+    private long ttlMillis;
+
+    private Cache<SlotKey, Integer> occupiedSeats;
+
+    @PostConstruct
+    void init() {
+        occupiedSeats = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, occupiedSeats, "booking.seat-availability");
+    }
+
+    /**
+     * 슬롯의 예약된(CONFIRMED) 좌석 수
+     */
+    public int getOccupiedSeats(SlotKey slot) {
+        return occupiedSeats.get(slot, key -> bookingRepository.sumCountByBookingDate(
+                key.storeId(), key.bookingDate(), BookingStateCodeRegistry.CONFIRMED));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(SlotOccupancyChangedEvent event) {
+        occupiedSeats.invalidate(event.slot());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCompleted(BookingsCompletedEvent event) {
+        occupiedSeats.asMap().keySet().removeIf(slot -> !slot.bookingDate().isAfter(event.completedUntil()));
+    }
+}
@@ -0,0 +1,74 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.event.BookingsCompletedEvent;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.repositoroy.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가게/슬롯별 확정 좌석 수 원장 (노드 로컬)
+ * 최초 조회 시 DB 합계로 적재하고, 이후에는 커밋된 예약 생성/취소/완료 이벤트로 갱신한다.
+ * 다른 ECS 태스크가 처리한 예약은 반영되지 않으므로 ttl 이 지나면 DB 합계로 다시 맞춘다.
+ * 원장 값은 빠른 거절 판단에만 사용 - 수용은 항상 SLOT_CAPACITY 조건부 차감으로 확정 (BookingService)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SeatOccupancyLedger {
+
+    private final BookingRepository bookingRepository;
+
+    @Value("${booking.occupancy.ttl-ms:2000}")
+    private long ttlMillis;
+
+    private final Map<SlotKey, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 슬롯의 확정 좌석 수 조회 - 원장에 없거나 만료된 경우에만 DB 조회
+     */
+    public int occupied(SlotKey slot) {
+        Entry entry = entries.get(slot);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt() < ttlMillis) {
+            return entry.seats();
+        }
+        return reconcile(slot);
+    }
+
+    /**
+     * DB 합계로 원장 재적재 - 반환값은 방금 조회한 DB 합계
+     * 교체는 compute 로 변경 이벤트 반영과 원자적으로 처리하고, 조회 도중 더 최근에 적재된 값은 덮어쓰지 않음
+     * (조회와 교체 사이에 커밋된 예약은 합계에 포함됐는지 알 수 없어 다음 재적재까지 오차가 남을 수 있음)
+     */
+    public int reconcile(SlotKey slot) {
+        long startedAt = System.currentTimeMillis();
+        int seats = bookingRepository.sumCountByBookingDate(slot.storeId(), slot.bookingDate(), BookingStateCodeRegistry.CONFIRMED);
+        entries.compute(slot, (key, current) ->
+                current != null && current.loadedAt() > startedAt ? current : new Entry(seats, startedAt));
+        return seats;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(SlotOccupancyChangedEvent event) {
+        // 적재되지 않은 슬롯은 다음 조회 때 DB에서 읽으므로 무시
+        entries.computeIfPresent(event.slot(), (key, entry) -> new Entry(entry.seats() + event.delta(), entry.loadedAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCompleted(BookingsCompletedEvent event) {
+        LocalDateTime until = event.completedUntil();
+        entries.keySet().removeIf(slot -> !slot.bookingDate().isAfter(until));
+        log.info("좌석 원장 정리 완료: until={}, 남은 슬롯 수={}", until, entries.size());
+    }
+
+    private record Entry(int seats, long loadedAt) {
+    }
+}
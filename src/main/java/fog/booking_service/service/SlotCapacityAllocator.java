@@ -0,0 +1,88 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.SlotCapacity;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.repositoroy.BookingRepository;
+import fog.booking_service.repositoroy.SlotCapacityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 슬롯 잔여 좌석(SLOT_CAPACITY) 차감/복원
+ * 차감은 REMAINING >= count 조건부 UPDATE 한 번으로 확인과 차감을 함께 처리하고, 호출자 트랜잭션(예약 INSERT)과 함께 커밋된다.
+ * 같은 슬롯의 동시 예약은 행 잠금으로만 직렬화되므로 FIFO 메시지 그룹 순서에 의존하지 않는다.
+ * 모든 작업은 호출자 트랜잭션(같은 커넥션)에서 실행 - 예약 처리 중 커넥션을 하나 더 잡지 않음
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SlotCapacityAllocator {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO SLOT_CAPACITY (STORE_ID, BOOKING_DATE, SEATS, REMAINING) VALUES (?, ?, ?, ?)";
+
+    private final SlotCapacityRepository slotCapacityRepository;
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 잔여 좌석 차감
+     * @return 차감 성공 여부 (잔여 좌석 부족 시 false)
+     */
+    public boolean reserve(SlotKey slot, int seats, int count) {
+        if (slotCapacityRepository.decrement(slot.storeId(), slot.bookingDate(), count) == 1) {
+            return true;
+        }
+        // 첫 차감 이후 다른 소비자가 행을 만들었을 수 있으므로, 행이 있으면 다시 차감해 본 뒤 판단
+        if (!slotCapacityRepository.existsById(new SlotCapacity.SlotCapacityId(slot))) {
+            initialize(slot, seats);
+        }
+        return slotCapacityRepository.decrement(slot.storeId(), slot.bookingDate(), count) == 1;
+    }
+
+    /**
+     * 남은 좌석 수 - 슬롯 행이 없으면 전체 좌석 - 확정 좌석
+     */
+    public int remaining(SlotKey slot, int seats) {
+        return slotCapacityRepository.findRemaining(slot.storeId(), slot.bookingDate())
+                .orElseGet(() -> Math.max(0, seats - bookingRepository.sumCountByBookingDate(
+                        slot.storeId(), slot.bookingDate(), BookingStateCodeRegistry.CONFIRMED)));
+    }
+
+    /**
+     * 취소된 좌석 복원
+     */
+    public void release(SlotKey slot, int count) {
+        slotCapacityRepository.increment(slot.storeId(), slot.bookingDate(), count);
+    }
+
+    /**
+     * 지난 슬롯 정리 - 예약 완료 배치 후 호출
+     */
+    public int purgeUntil(LocalDateTime until) {
+        return slotCapacityRepository.deleteByBookingDateUntil(until);
+    }
+
+    /**
+     * 슬롯 행 생성 (전체 좌석 - 확정 좌석) - 호출자 트랜잭션에서 INSERT
+     * 동시에 만든 소비자는 먼저 만든 트랜잭션이 끝날 때까지 PK 에서 기다린 뒤 중복 키로 실패하고, 커밋된 행을 차감
+     * INSERT 는 JdbcTemplate 로 실행 - 실패한 문장만 롤백되고 호출자 트랜잭션(Hibernate 세션)은 rollback-only 가 되지 않음
+     */
+    private void initialize(SlotKey slot, int seats) {
+        int occupied = bookingRepository.sumCountByBookingDate(slot.storeId(), slot.bookingDate(), BookingStateCodeRegistry.CONFIRMED);
+        try {
+            jdbcTemplate.update(INSERT_SQL, slot.storeId(), Timestamp.valueOf(slot.bookingDate()), seats, Math.max(0, seats - occupied));
+            log.info("슬롯 잔여 좌석 생성: storeId={}, bookingDate={}, seats={}, occupied={}",
+                    slot.storeId(), slot.bookingDate(), seats, occupied);
+        } catch (DuplicateKeyException e) {
+            // 다른 소비자가 먼저 생성
+            log.debug("슬롯 잔여 좌석 동시 생성: storeId={}, bookingDate={}", slot.storeId(), slot.bookingDate());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package fog.booking_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fog.booking_service.dto.BookingResultNotice;
+import fog.booking_service.dto.BookingStatusMessage;
+import io.awspring.cloud.sqs.listener.SqsMessageListenerContainer;
+import io.awspring.cloud.sqs.support.converter.SqsMessagingMessageConverter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicRequest;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.SubscribeRequest;
+import software.amazon.awssdk.services.sns.model.Subscription;
+import software.amazon.awssdk.services.sns.model.UnsubscribeRequest;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueuesRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueuesResponse;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SNS 토픽 팬아웃으로 예약 결과 전달
+ * 기동 시 태스크 전용 SQS 큐를 만들어 토픽에 구독하고, 종료 시 구독과 큐를 삭제한다.
+ * 종료 처리 없이 중단된 태스크의 큐/구독은 남으므로, 큐에 태스크 ID/생성 시각/하트비트 태그를 달고
+ * 기동 시 하트비트가 stale-after-ms 이상 갱신되지 않은 큐와 그 구독을 삭제한다.
+ * 결과는 자기 태스크의 SSE 연결로 보내고 항상 토픽으로도 발행해, 같은 사용자의 연결(다른 탭)을 가진 다른 태스크도 전달하게 한다.
+ * 자기 태스크가 발행한 메시지는 이미 전달했으므로 수신 시 건너뛴다.
+ * 필요한 IAM 권한은 sqs-policy.json 참고
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "booking.result-bus.type", havingValue = "sns")
+public class SnsBookingResultBus implements BookingResultBus {
+
+    private static final String TASK_TAG = "task";
+    private static final String CREATED_AT_TAG = "created-at";
+    private static final String HEARTBEAT_AT_TAG = "heartbeat-at";
+
+    private final SseConnectionHub sseConnectionHub;
+    private final SqsAsyncClient sqsAsyncClient;
+    private final SnsClient snsClient;
+    private final ObjectMapper objectMapper;
+    private final String taskId = UUID.randomUUID().toString();
+
+    @Value("${booking.result-bus.topic-arn}")
+    private String topicArn;
+
+    @Value("${booking.result-bus.queue-prefix:booking-results-}")
+    private String queuePrefix;
+
+    // 하트비트가 이 시간 이상 갱신되지 않은 큐는 중단된 태스크의 큐로 보고 삭제 (heartbeat-interval-ms 의 몇 배로 설정)
+    @Value("${booking.result-bus.stale-after-ms:3600000}")
+    private long staleAfterMillis;
+
+    private String queueUrl;
+    private String subscriptionArn;
+    private SqsMessageListenerContainer<BookingResultNotice> container;
+
+    public SnsBookingResultBus(SseConnectionHub sseConnectionHub, SqsAsyncClient sqsAsyncClient,
+                               @Qualifier("resultBusSnsClient") SnsClient snsClient, ObjectMapper objectMapper) {
+        this.sseConnectionHub = sseConnectionHub;
+        this.sqsAsyncClient = sqsAsyncClient;
+        this.snsClient = snsClient;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void start() {
+        sweepStaleQueues();
+
+        String queueName = queuePrefix + taskId;
+        String now = String.valueOf(System.currentTimeMillis());
+        queueUrl = sqsAsyncClient.createQueue(CreateQueueRequest.builder()
+                .queueName(queueName)
+                .attributes(Map.of(QueueAttributeName.MESSAGE_RETENTION_PERIOD, "300"))
+                .tags(Map.of(TASK_TAG, taskId, CREATED_AT_TAG, now, HEARTBEAT_AT_TAG, now))
+                .build()).join().queueUrl();
+        String queueArn = sqsAsyncClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                .queueUrl(queueUrl)
+                .attributeNames(QueueAttributeName.QUEUE_ARN)
+                .build()).join().attributes().get(QueueAttributeName.QUEUE_ARN);
+        sqsAsyncClient.setQueueAttributes(builder -> builder
+                .queueUrl(queueUrl)
+                .attributes(Map.of(QueueAttributeName.POLICY, queuePolicy(queueArn)))).join();
+
+        subscriptionArn = snsClient.subscribe(SubscribeRequest.builder()
+                .topicArn(topicArn)
+                .protocol("sqs")
+                .endpoint(queueArn)
+                .attributes(Map.of("RawMessageDelivery", "true"))
+                .returnSubscriptionArn(true)
+                .build()).subscriptionArn();
+
+        SqsMessagingMessageConverter converter = new SqsMessagingMessageConverter();
+        converter.setObjectMapper(objectMapper);
+        converter.setPayloadTypeMapper(message -> BookingResultNotice.class);
+        container = SqsMessageListenerContainer.<BookingResultNotice>builder()
+                .sqsAsyncClient(sqsAsyncClient)
+                .queueNames(queueName)
+                .configure(options -> options.messageConverter(converter))
+                .messageListener(message -> deliver(message.getPayload()))
+                .build();
+        container.start();
+        log.info("예약 결과 수신 큐 구독 완료: queue={}, topic={}", queueName, topicArn);
+    }
+
+    @PreDestroy
+    void stop() {
+        container.stop();
+        snsClient.unsubscribe(UnsubscribeRequest.builder().subscriptionArn(subscriptionArn).build());
+        sqsAsyncClient.deleteQueue(DeleteQueueRequest.builder().queueUrl(queueUrl).build()).join();
+    }
+
+    /**
+     * 하트비트 태그 갱신 - 살아 있는 태스크의 큐가 다른 태스크의 정리 대상이 되지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${booking.result-bus.heartbeat-interval-ms:300000}")
+    public void heartbeat() {
+        try {
+            sqsAsyncClient.tagQueue(builder -> builder
+                    .queueUrl(queueUrl)
+                    .tags(Map.of(HEARTBEAT_AT_TAG, String.valueOf(System.currentTimeMillis())))).join();
+        } catch (Exception e) {
+            log.warn("예약 결과 수신 큐 하트비트 갱신 실패: queue={}, error={}", queueUrl, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publish(String userId, BookingStatusMessage result) {
+        sseConnectionHub.sendAndComplete(userId, result);
+        try {
+            snsClient.publish(PublishRequest.builder()
+                    .topicArn(topicArn)
+                    .message(objectMapper.writeValueAsString(new BookingResultNotice(taskId, userId, result)))
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.error("예약 결과 직렬화 실패: userId={}", userId, e);
+        } catch (Exception e) {
+            log.error("예약 결과 발행 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    void deliver(BookingResultNotice notice) {
+        // 자기 태스크 연결에는 발행 시 이미 전달함
+        if (taskId.equals(notice.getOrigin())) {
+            return;
+        }
+        // 모든 태스크가 받으므로 SSE 연결이 없는 태스크는 무시
+        if (sseConnectionHub.sendAndComplete(notice.getUserId(), notice.getResult())) {
+            log.info("다른 태스크의 예약 결과 전달: userId={}", notice.getUserId());
+        }
+    }
+
+    /**
+     * 중단된 태스크가 남긴 큐와 구독 삭제 - 태그가 없는 큐(이전 버전)는 생성 시각으로 판단
+     * 정리 실패는 기동을 막지 않음 (다음 태스크 기동 시 다시 시도)
+     */
+    void sweepStaleQueues() {
+        long staleBefore = System.currentTimeMillis() - staleAfterMillis;
+        try {
+            Set<String> staleQueueArns = new HashSet<>();
+            String nextToken = null;
+            do {
+                ListQueuesResponse queues = sqsAsyncClient.listQueues(ListQueuesRequest.builder()
+                        .queueNamePrefix(queuePrefix)
+                        .nextToken(nextToken)
+                        .build()).join();
+                for (String staleQueueUrl : queues.queueUrls()) {
+                    String queueArn = staleQueueArn(staleQueueUrl, staleBefore);
+                    if (queueArn != null) {
+                        sqsAsyncClient.deleteQueue(DeleteQueueRequest.builder().queueUrl(staleQueueUrl).build()).join();
+                        staleQueueArns.add(queueArn);
+                        log.info("중단된 태스크의 예약 결과 수신 큐 삭제: queue={}", staleQueueUrl);
+                    }
+                }
+                nextToken = queues.nextToken();
+            } while (nextToken != null);
+
+            ListSubscriptionsByTopicRequest subscriptions = ListSubscriptionsByTopicRequest.builder().topicArn(topicArn).build();
+            for (Subscription subscription : snsClient.listSubscriptionsByTopicPaginator(subscriptions).subscriptions()) {
+                if (staleQueueArns.contains(subscription.endpoint())) {
+                    snsClient.unsubscribe(UnsubscribeRequest.builder().subscriptionArn(subscription.subscriptionArn()).build());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("중단된 태스크의 예약 결과 수신 큐 정리 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 하트비트(없으면 생성 시각)가 staleBefore 이전인 큐의 ARN - 아니면 null
+     */
+    private String staleQueueArn(String url, long staleBefore) {
+        Map<String, String> tags = sqsAsyncClient.listQueueTags(ListQueueTagsRequest.builder().queueUrl(url).build()).join().tags();
+        Map<QueueAttributeName, String> attributes = sqsAsyncClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                .queueUrl(url)
+                .attributeNames(QueueAttributeName.QUEUE_ARN, QueueAttributeName.CREATED_TIMESTAMP)
+                .build()).join().attributes();
+        long heartbeatAt = tags.containsKey(HEARTBEAT_AT_TAG)
+                ? Long.parseLong(tags.get(HEARTBEAT_AT_TAG))
+                : Long.parseLong(attributes.get(QueueAttributeName.CREATED_TIMESTAMP)) * 1000;
+        return heartbeatAt < staleBefore ? attributes.get(QueueAttributeName.QUEUE_ARN) : null;
+    }
+
+    private String queuePolicy(String queueArn) {
+        return """
+                {"Version":"2012-10-17","Statement":[{"Effect":"Allow","Principal":{"Service":"sns.amazonaws.com"},\
+                "Action":"sqs:SendMessage","Resource":"%s","Condition":{"ArnEquals":{"aws:SourceArn":"%s"}}}]}\
+                """.formatted(queueArn, topicArn);
+    }
+}
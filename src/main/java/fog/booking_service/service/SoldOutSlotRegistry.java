@@ -0,0 +1,77 @@
+package fog.booking_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.event.BookingsCompletedEvent;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 좌석이 부족한 슬롯 목록 (노드 로컬) - 예약 요청을 SQS 로 보내기 전에 바로 거절하기 위한 용도
+ * 이 태스크의 소비자가 좌석 초과로 거절한 슬롯을 남은 좌석 수와 함께 기록하고,
+ * 이 태스크에서 커밋된 취소 시 해당 슬롯을 지운다. 다른 태스크의 취소는 ttl 로 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SoldOutSlotRegistry {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${booking.sold-out.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${booking.sold-out.ttl-ms:10000}")
+    private long ttlMillis;
+
+    // 슬롯 -> 남은 좌석 수
+    private Cache<SlotKey, Integer> remainingSeats;
+
+    @PostConstruct
+    void init() {
+        remainingSeats = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, remainingSeats, "booking.sold-out");
+    }
+
+    /**
+     * 좌석 초과로 거절된 슬롯 기록
+     */
+    public void markFull(SlotKey slot, int remaining) {
+        remainingSeats.put(slot, Math.max(0, remaining));
+    }
+
+    /**
+     * count 명 예약이 좌석 초과로 거절될 것이 확실한지 여부
+     */
+    public boolean rejects(SlotKey slot, int count) {
+        Integer remaining = remainingSeats.getIfPresent(slot);
+        return remaining != null && count > remaining;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(SlotOccupancyChangedEvent event) {
+        if (event.delta() < 0) {
+            // 취소로 좌석이 생김
+            remainingSeats.invalidate(event.slot());
+        } else {
+            remainingSeats.asMap().computeIfPresent(event.slot(), (slot, remaining) -> Math.max(0, remaining - event.delta()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingsCompleted(BookingsCompletedEvent event) {
+        remainingSeats.asMap().keySet().removeIf(slot -> !slot.bookingDate().isAfter(event.completedUntil()));
+    }
+}
@@ -0,0 +1,196 @@
+package fog.booking_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 관리
+ * 사용자당 여러 연결(탭)을 허용하고, 연결별 전송 큐를 전용 스레드 풀에서 비워 호출 스레드(SQS 리스너 등)가 소켓 쓰기를 기다리지 않도록 한다.
+ * 큐가 가득 찬 느린 연결은 끊고, 유휴 연결이 프록시에서 끊기지 않도록 주기적으로 heartbeat 를 보낸다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SseConnectionHub {
+
+    private final MeterRegistry meterRegistry;
+    private final BookingMetrics bookingMetrics;
+
+    @Value("${booking.sse.timeout-ms:600000}")
+    private long timeoutMillis;
+
+    @Value("${booking.sse.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${booking.sse.sender-threads:2}")
+    private int senderThreads;
+
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private ExecutorService sender;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("booking.sse.connections", openConnections, AtomicInteger::get)
+                .description("열린 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("booking.sse.users", connections, Map::size)
+                .description("SSE 연결이 있는 사용자 수")
+                .register(meterRegistry);
+        evictions = Counter.builder("booking.sse.evictions")
+                .description("전송 큐 초과 또는 전송 실패로 끊은 SSE 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+    }
+
+    /**
+     * SSE 연결 등록
+     */
+    public SseEmitter connect(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter, queueCapacity);
+        connections.compute(userId, (k, userConnections) -> {
+            Set<Connection> updated = userConnections == null ? ConcurrentHashMap.newKeySet() : userConnections;
+            updated.add(connection);
+            return updated;
+        });
+        openConnections.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        enqueue(connection, SseEmitter.event().name("connect").data("connected!"), false);
+        return emitter;
+    }
+
+    /**
+     * 사용자의 모든 연결에 이벤트 전송 후 연결 종료 (예약 결과 전송용)
+     * @return 전송 대상 연결이 있었는지 여부
+     */
+    public boolean sendAndComplete(String userId, Object payload) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null || userConnections.isEmpty()) {
+            return false;
+        }
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event().data(payload), true);
+        }
+        return true;
+    }
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    @Scheduled(fixedRateString = "${booking.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                enqueue(connection, SseEmitter.event().comment("heartbeat"), false);
+            }
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event, boolean last) {
+        if (!connection.queue.offer(new Outgoing(event, last, System.nanoTime()))) {
+            log.warn("SSE 전송 큐 초과로 연결 종료: userId={}", connection.userId);
+            evictions.increment();
+            connection.emitter.complete();
+            remove(connection);
+            return;
+        }
+        if (connection.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(connection));
+        }
+    }
+
+    private void drain(Connection connection) {
+        do {
+            Outgoing outgoing;
+            while ((outgoing = connection.queue.poll()) != null) {
+                if (connection.removed.get()) {
+                    connection.queue.clear();
+                    break;
+                }
+                try {
+                    connection.emitter.send(outgoing.event());
+                    if (outgoing.last()) {
+                        // 결과 전송 지연 - 큐 적재부터 전송까지
+                        bookingMetrics.stage(BookingMetrics.SSE_DELIVERY)
+                                .record(System.nanoTime() - outgoing.enqueuedAt(), TimeUnit.NANOSECONDS);
+                        connection.emitter.complete();
+                        remove(connection);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.error("SSE send failed for userId={}: {}", connection.userId, e.getMessage());
+                    evictions.increment();
+                    connection.queue.clear();
+                    remove(connection);
+                }
+            }
+            connection.draining.set(false);
+            // 플래그를 내린 사이에 들어온 이벤트가 있으면 이어서 처리
+        } while (!connection.queue.isEmpty() && connection.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Connection connection) {
+        if (!connection.removed.compareAndSet(false, true)) {
+            return;
+        }
+        openConnections.decrementAndGet();
+        connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean last, long enqueuedAt) {
+    }
+
+    private static final class Connection {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        private Connection(String userId, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package fog.booking_service.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Store Service 가게 목록 캐시 (storeId -> storeName)
+ * 주기적으로 전체 목록을 갱신하고, 없는 가게 조회 시에는 최소 간격을 두고 한 번 더 갱신한다.
+ * 동시에 들어온 갱신 요청은 한 번의 호출로 합치며, 호출 실패 시 마지막으로 받은 목록을 계속 사용한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StoreDirectory {
+
+    private static final ParameterizedTypeReference<List<Map<String, Object>>> STORE_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final RestTemplate restTemplate;
+
+    @Value("${store-service.url:https://talkingpotato.shop/api/stores}")
+    private String storeServiceUrl;
+
+    @Value("${store-service.miss-refresh-interval-ms:30000}")
+    private long missRefreshIntervalMillis;
+
+    private volatile Map<String, String> storeNames = Map.of();
+    private volatile long lastRefreshAt;
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlight = new AtomicReference<>();
+
+    /**
+     * 가게 이름 조회
+     */
+    public Optional<String> findStoreName(String storeId) {
+        String storeName = storeNames.get(storeId);
+        if (storeName != null || System.currentTimeMillis() - lastRefreshAt < missRefreshIntervalMillis) {
+            return Optional.ofNullable(storeName);
+        }
+        return Optional.ofNullable(refresh().get(storeId));
+    }
+
+    @Scheduled(fixedDelayString = "${store-service.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 가게 목록 갱신 - 이미 진행 중인 갱신이 있으면 그 결과를 기다린다
+     */
+    public Map<String, String> refresh() {
+        CompletableFuture<Map<String, String>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            return running.join();
+        }
+
+        try {
+            log.info("Store Service 호출: {}", storeServiceUrl);
+            List<Map<String, Object>> stores = restTemplate.exchange(storeServiceUrl, HttpMethod.GET, null, STORE_LIST).getBody();
+            if (stores != null) {
+                Map<String, String> loaded = new HashMap<>(stores.size() * 2);
+                for (Map<String, Object> store : stores) {
+                    Object storeId = store.get("storeId");
+                    Object storeName = store.get("storeName");
+                    if (storeId != null && storeName != null) {
+                        loaded.put(storeId.toString(), storeName.toString());
+                    }
+                }
+                storeNames = Map.copyOf(loaded);
+                log.info("가게 목록 갱신 완료: {}개", loaded.size());
+            }
+        } catch (Exception e) {
+            log.warn("Store Service 가게 목록 조회 실패, 기존 목록 사용: error={}", e.getMessage());
+        } finally {
+            lastRefreshAt = System.currentTimeMillis();
+            mine.complete(storeNames);
+            inFlight.set(null);
+        }
+        return storeNames;
+    }
+}
@@ -0,0 +1,3 @@
+-- ledger 모드도 수용을 SLOT_CAPACITY 차감으로 확정 - 이전 ledger 모드 예약이 반영되지 않은 행을 비움
+-- 행은 다음 예약 때 전체 좌석 - 확정 좌석(BOOKING 합계)으로 다시 생성됨 (SlotCapacityAllocator)
+DELETE FROM SLOT_CAPACITY;
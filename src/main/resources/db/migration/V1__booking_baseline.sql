@@ -0,0 +1,25 @@
+-- 예약 기본 스키마 (BookingStateCode, Booking)
+-- 이미 운영 중인 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 적용된 것으로 기록하고 V2 부터 적용
+CREATE TABLE BOOKING_STATE_CODE (
+    BOOKING_STATE_CODE NUMBER(10)   NOT NULL,
+    STATE_NAME         VARCHAR2(10),
+    CONSTRAINT PK_BOOKING_STATE_CODE PRIMARY KEY (BOOKING_STATE_CODE)
+);
+
+-- BookingStateCodeRegistry.CONFIRMED / CANCELED / COMPLETED
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (0, 'CONFIRMED');
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (1, 'CANCELED');
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (2, 'COMPLETED');
+
+CREATE SEQUENCE BOOKING_BOOKING_NUM_SEQ START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE BOOKING (
+    BOOKING_NUM        NUMBER(19)   NOT NULL,
+    BOOKING_DATE       TIMESTAMP    NOT NULL,
+    USER_ID            VARCHAR2(50) NOT NULL,
+    STORE_ID           VARCHAR2(20) NOT NULL,
+    BOOKING_STATE_CODE NUMBER(10),
+    COUNT              NUMBER(10)   NOT NULL,
+    CONSTRAINT PK_BOOKING PRIMARY KEY (BOOKING_NUM),
+    CONSTRAINT FK_BOOKING_STATE FOREIGN KEY (BOOKING_STATE_CODE) REFERENCES BOOKING_STATE_CODE (BOOKING_STATE_CODE)
+);
@@ -0,0 +1,5 @@
+-- BOOKING_NUM 시퀀스를 pooled-lo 블록 할당으로 전환 (Booking.allocationSize = 50)
+-- 각 태스크는 NEXTVAL 로 받은 값 v 부터 v + 49 까지를 메모리에서 할당하므로 태스크 간 ID 가 겹치지 않는다.
+-- 주의: allocationSize = 1 버전 태스크와 혼재하면 ID 가 충돌할 수 있으므로 구버전 태스크를 모두 내린 뒤 적용하고 새 버전을 배포한다.
+--       (새 버전은 시퀀스 INCREMENT BY 가 50 이 아니면 기동 시 실패한다.)
+ALTER SEQUENCE BOOKING_BOOKING_NUM_SEQ INCREMENT BY 50;
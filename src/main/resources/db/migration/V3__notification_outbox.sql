@@ -0,0 +1,22 @@
+-- 예약 완료 알림 아웃박스 (NotificationOutbox)
+CREATE SEQUENCE NOTIFICATION_OUTBOX_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE NOTIFICATION_OUTBOX (
+    OUTBOX_ID       NUMBER(19)    NOT NULL,
+    BOOKING_NUM     NUMBER(19)    NOT NULL,
+    STORE_ID        VARCHAR2(20)  NOT NULL,
+    BOOKING_DATE    TIMESTAMP     NOT NULL,
+    COUNT           NUMBER(10)    NOT NULL,
+    USER_NAME       VARCHAR2(50)  NOT NULL,
+    STATUS          VARCHAR2(10)  NOT NULL,
+    ATTEMPTS        NUMBER(10)    DEFAULT 0 NOT NULL,
+    NEXT_ATTEMPT_AT TIMESTAMP     NOT NULL,
+    CLAIM_TOKEN     VARCHAR2(36),
+    LAST_ERROR      VARCHAR2(500),
+    CREATED_AT      TIMESTAMP     NOT NULL,
+    CONSTRAINT PK_NOTIFICATION_OUTBOX PRIMARY KEY (OUTBOX_ID)
+);
+
+-- 릴레이 폴링 (STATUS = 'PENDING' AND NEXT_ATTEMPT_AT <= :now ORDER BY OUTBOX_ID)
+CREATE INDEX IX_NOTIFICATION_OUTBOX_READY ON NOTIFICATION_OUTBOX (STATUS, NEXT_ATTEMPT_AT, OUTBOX_ID);
+CREATE INDEX IX_NOTIFICATION_OUTBOX_CLAIM ON NOTIFICATION_OUTBOX (CLAIM_TOKEN);
@@ -0,0 +1,6 @@
+-- 배치작업 워터마크 (BatchJobState)
+CREATE TABLE BATCH_JOB_STATE (
+    JOB_NAME  VARCHAR2(50) NOT NULL,
+    WATERMARK TIMESTAMP    NOT NULL,
+    CONSTRAINT PK_BATCH_JOB_STATE PRIMARY KEY (JOB_NAME)
+);
@@ -0,0 +1,9 @@
+-- 슬롯별 잔여 좌석 (SlotCapacity) - 예약 시 REMAINING >= :count 조건부 UPDATE 로 차감
+CREATE TABLE SLOT_CAPACITY (
+    STORE_ID     VARCHAR2(20) NOT NULL,
+    BOOKING_DATE TIMESTAMP    NOT NULL,
+    SEATS        NUMBER(10)   NOT NULL,
+    REMAINING    NUMBER(10)   NOT NULL,
+    CONSTRAINT PK_SLOT_CAPACITY PRIMARY KEY (STORE_ID, BOOKING_DATE),
+    CONSTRAINT CK_SLOT_CAPACITY_REMAINING CHECK (REMAINING >= 0)
+);
@@ -0,0 +1,12 @@
+-- 예약 요청 멱등 키별 처리 결과 (BookingIdempotency)
+CREATE TABLE BOOKING_IDEMPOTENCY (
+    IDEMPOTENCY_KEY VARCHAR2(110) NOT NULL,
+    STATUS          VARCHAR2(10)  NOT NULL,
+    MESSAGE         VARCHAR2(200) NOT NULL,
+    BOOKING_NUM     NUMBER(19),
+    CREATED_AT      TIMESTAMP     NOT NULL,
+    CONSTRAINT PK_BOOKING_IDEMPOTENCY PRIMARY KEY (IDEMPOTENCY_KEY)
+);
+
+-- 보관 기간 지난 키 정리 (CREATED_AT < :before)
+CREATE INDEX IX_BOOKING_IDEMPOTENCY_CREATED ON BOOKING_IDEMPOTENCY (CREATED_AT);
@@ -0,0 +1,26 @@
+-- 슬롯별 예약 대기열 (BookingWaitlist)
+CREATE SEQUENCE BOOKING_WAITLIST_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE BOOKING_WAITLIST (
+    WAITLIST_ID  NUMBER(19)   NOT NULL,
+    STORE_ID     VARCHAR2(20) NOT NULL,
+    BOOKING_DATE TIMESTAMP    NOT NULL,
+    USER_ID      VARCHAR2(50) NOT NULL,
+    USER_NAME    VARCHAR2(50) NOT NULL,
+    COUNT        NUMBER(10)   NOT NULL,
+    SEATS        NUMBER(10)   NOT NULL,
+    STATUS       VARCHAR2(10) NOT NULL,
+    OFFERS       NUMBER(10)   DEFAULT 0 NOT NULL,
+    OFFERED_AT   TIMESTAMP,
+    CREATED_AT   TIMESTAMP    NOT NULL,
+    CONSTRAINT PK_BOOKING_WAITLIST PRIMARY KEY (WAITLIST_ID),
+    -- 사용자별 색인 (슬롯당 1건)
+    CONSTRAINT UK_BOOKING_WAITLIST_USER UNIQUE (STORE_ID, BOOKING_DATE, USER_ID)
+);
+
+-- 슬롯 대기열 앞부분 조회 (STORE_ID, BOOKING_DATE, STATUS = 'WAITING' ORDER BY WAITLIST_ID)
+CREATE INDEX IX_BOOKING_WAITLIST_HEAD ON BOOKING_WAITLIST (STORE_ID, BOOKING_DATE, STATUS, WAITLIST_ID);
+-- 만료된 제안 회수 (STATUS = 'OFFERED' AND OFFERED_AT < :expiredBefore)
+CREATE INDEX IX_BOOKING_WAITLIST_OFFERED ON BOOKING_WAITLIST (STATUS, OFFERED_AT);
+-- 지난 슬롯 정리 (BOOKING_DATE <= :until)
+CREATE INDEX IX_BOOKING_WAITLIST_DATE ON BOOKING_WAITLIST (BOOKING_DATE);
@@ -0,0 +1,15 @@
+-- 보관 예약 (BookingArchive) - BookingArchiver 가 보관 기간이 지난 COMPLETED/CANCELED 예약을 BOOKING 에서 옮김
+CREATE TABLE BOOKING_ARCHIVE (
+    BOOKING_NUM        NUMBER(19)   NOT NULL,
+    BOOKING_DATE       TIMESTAMP    NOT NULL,
+    USER_ID            VARCHAR2(50) NOT NULL,
+    STORE_ID           VARCHAR2(20) NOT NULL,
+    BOOKING_STATE_CODE NUMBER(10),
+    COUNT              NUMBER(10)   NOT NULL,
+    ARCHIVED_AT        TIMESTAMP    NOT NULL,
+    CONSTRAINT PK_BOOKING_ARCHIVE PRIMARY KEY (BOOKING_NUM),
+    CONSTRAINT FK_BOOKING_ARCHIVE_STATE FOREIGN KEY (BOOKING_STATE_CODE) REFERENCES BOOKING_STATE_CODE (BOOKING_STATE_CODE)
+);
+
+-- 내 예약 목록 (history=true) - USER_ID 별 (BOOKING_DATE, BOOKING_NUM) 내림차순 키셋
+CREATE INDEX IX_BOOKING_ARCHIVE_USER ON BOOKING_ARCHIVE (USER_ID, BOOKING_DATE, BOOKING_NUM);
@@ -0,0 +1,207 @@
+package fog.booking_service.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cognito ID 토큰 검증 - 테스트용 RSA 키로 서명한 토큰과 JWKS 로 확인
+ */
+class CognitoJwtVerifierTest {
+
+    private static final String REGION = "ap-northeast-2";
+    private static final String USER_POOL_ID = "ap-northeast-2_test";
+    private static final String CLIENT_ID = "test-client";
+    private static final String ISSUER = "https://cognito-idp." + REGION + ".amazonaws.com/" + USER_POOL_ID;
+    private static final String JWKS_URL = ISSUER + "/.well-known/jwks.json";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final KeyPair KEY = generateKeyPair();
+    private static final KeyPair ROTATED_KEY = generateKeyPair();
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private CognitoJwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new CognitoJwtVerifier(restTemplate);
+        ReflectionTestUtils.setField(verifier, "region", REGION);
+        ReflectionTestUtils.setField(verifier, "userPoolId", USER_POOL_ID);
+        ReflectionTestUtils.setField(verifier, "clientId", CLIENT_ID);
+        ReflectionTestUtils.setField(verifier, "jwksRefreshIntervalMillis", 0L);
+        when(restTemplate.getForObject(JWKS_URL, Map.class)).thenReturn(jwks(Map.of("key-1", KEY)));
+    }
+
+    @Test
+    void validToken() {
+        JwtClaims claims = verifier.verify(token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), KEY.getPrivate()));
+
+        assertThat(claims.sub()).isEqualTo("sub-1");
+        assertThat(claims.username()).isEqualTo("user-1");
+    }
+
+    @Test
+    void rejectsBadSignature() {
+        String token = token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), ROTATED_KEY.getPrivate());
+
+        assertRejected(token, "서명");
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String token = token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), KEY.getPrivate());
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + encode(payload(ISSUER, "id", CLIENT_ID, future()).replace("sub-1", "sub-2")) + "." + parts[2];
+
+        assertRejected(forged, "서명");
+    }
+
+    @Test
+    void rejectsWrongIssuer() {
+        String token = token(header("key-1", "RS256"), payload("https://cognito-idp." + REGION + ".amazonaws.com/other", "id", CLIENT_ID, future()), KEY.getPrivate());
+
+        assertRejected(token, "발급자");
+    }
+
+    @Test
+    void unknownKidReloadsJwks() {
+        String token = token(header("key-2", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), ROTATED_KEY.getPrivate());
+        verifier.verify(token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), KEY.getPrivate()));
+
+        // 키 교체 전에는 알 수 없는 kid
+        assertRejected(token, "알 수 없는 JWT 키");
+
+        when(restTemplate.getForObject(JWKS_URL, Map.class)).thenReturn(jwks(Map.of("key-1", KEY, "key-2", ROTATED_KEY)));
+        assertThat(verifier.verify(token).sub()).isEqualTo("sub-1");
+        verify(restTemplate, times(3)).getForObject(eq(JWKS_URL), eq(Map.class));
+    }
+
+    @Test
+    void unknownKidDoesNotReloadWithinRefreshInterval() {
+        ReflectionTestUtils.setField(verifier, "jwksRefreshIntervalMillis", 60_000L);
+        verifier.verify(token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), KEY.getPrivate()));
+
+        assertRejected(token(header("key-2", "RS256"), payload(ISSUER, "id", CLIENT_ID, future()), ROTATED_KEY.getPrivate()), "알 수 없는 JWT 키");
+        verify(restTemplate, times(1)).getForObject(eq(JWKS_URL), eq(Map.class));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token(header("key-1", "RS256"), payload(ISSUER, "id", CLIENT_ID, Instant.now().minusSeconds(1).getEpochSecond()), KEY.getPrivate());
+
+        assertRejected(token, "만료");
+    }
+
+    @Test
+    void rejectsOtherAlgorithms() {
+        String payload = payload(ISSUER, "id", CLIENT_ID, future());
+
+        assertRejected(token(header("key-1", "HS256"), payload, KEY.getPrivate()), "alg=HS256");
+        assertRejected(encode(header("key-1", "none")) + "." + encode(payload) + ".", "alg=none");
+    }
+
+    @Test
+    void rejectsAccessToken() {
+        String token = token(header("key-1", "RS256"), payload(ISSUER, "access", CLIENT_ID, future()), KEY.getPrivate());
+
+        assertRejected(token, "token_use=access");
+    }
+
+    @Test
+    void rejectsOtherClient() {
+        String token = token(header("key-1", "RS256"), payload(ISSUER, "id", "other-client", future()), KEY.getPrivate());
+
+        assertRejected(token, "aud");
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertRejected("not-a-jwt", "형식");
+        assertRejected("a.b.c.d", "형식");
+    }
+
+    private void assertRejected(String token, String reason) {
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining(reason);
+    }
+
+    private static String header(String kid, String alg) {
+        return "{\"kid\":\"" + kid + "\",\"alg\":\"" + alg + "\"}";
+    }
+
+    private static String payload(String issuer, String tokenUse, String audience, long exp) {
+        return "{\"sub\":\"sub-1\",\"cognito:username\":\"user-1\",\"iss\":\"" + issuer + "\","
+                + "\"token_use\":\"" + tokenUse + "\",\"aud\":\"" + audience + "\",\"exp\":" + exp + "}";
+    }
+
+    private static long future() {
+        return Instant.now().plusSeconds(3600).getEpochSecond();
+    }
+
+    private static String token(String header, String payload, PrivateKey key) {
+        String signingInput = encode(header) + "." + encode(payload);
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(key);
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + ENCODER.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, Object> jwks(Map<String, KeyPair> keys) {
+        List<Map<String, String>> jwks = keys.entrySet().stream()
+                .map(entry -> {
+                    RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
+                    return Map.of("kid", entry.getKey(), "kty", "RSA", "alg", "RS256", "use", "sig",
+                            "n", ENCODER.encodeToString(unsigned(publicKey.getModulus())),
+                            "e", ENCODER.encodeToString(unsigned(publicKey.getPublicExponent())));
+                })
+                .toList();
+        return Map.of("keys", jwks);
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 && bytes.length > 1 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package fog.booking_service.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주/대기 DB 라우팅 - 각 DB 의 DB_ROLE 테이블 값으로 실제로 어느 DB 에서 실행됐는지 확인
+ * DataSourceConfig 와 같이 ReplicaRoutingDataSource 를 LazyConnectionDataSourceProxy 로 감싸 사용
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_MILLIS = 1000;
+    private static final long CHECK_INTERVAL_MILLIS = 100;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("PRIMARY");
+        DataSource replicaDataSource = database("REPLICA");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE REPLICA_LAG (SECONDS NUMBER(10, 3))");
+        replica.update("INSERT INTO REPLICA_LAG VALUES (0.2)");
+
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT SECONDS FROM REPLICA_LAG",
+                MAX_LAG_MILLIS, CHECK_INTERVAL_MILLIS, new SimpleMeterRegistry());
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        routed = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        lagMonitor.check();
+
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("REPLICA");
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_SUPPORTS))).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void writesAndNonReadOnlyReadsUsePrimary() {
+        lagMonitor.check();
+
+        assertThat(roleIn(readWrite(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("PRIMARY");
+        assertThat(roleIn(readWrite(TransactionDefinition.PROPAGATION_SUPPORTS))).isEqualTo("PRIMARY");
+        // 트랜잭션 밖
+        assertThat(routed.queryForObject("SELECT NAME FROM DB_ROLE", String.class)).isEqualTo("PRIMARY");
+
+        readWrite(TransactionDefinition.PROPAGATION_REQUIRED).executeWithoutResult(status ->
+                routed.update("INSERT INTO BOOKING_ROW (BOOKING_NUM) VALUES (1)"));
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM BOOKING_ROW", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM BOOKING_ROW", Integer.class)).isZero();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replica.update("UPDATE REPLICA_LAG SET SECONDS = 5");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("PRIMARY");
+
+        // 지연이 허용치 안으로 돌아오면 다시 대기 DB
+        replica.update("UPDATE REPLICA_LAG SET SECONDS = 0.5");
+        lagMonitor.check();
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("REPLICA");
+    }
+
+    @Test
+    void failedLagCheckFallsBackToPrimary() {
+        lagMonitor.check();
+        replica.execute("DROP TABLE REPLICA_LAG");
+        lagMonitor.check();
+
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void staleLagCheckFallsBackToPrimary() throws InterruptedException {
+        lagMonitor.check();
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("REPLICA");
+
+        // 확인 주기 3회 이상 확인하지 않음 (스케줄러 중단 등)
+        Thread.sleep(CHECK_INTERVAL_MILLIS * 3 + 50);
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(roleIn(readOnly(TransactionDefinition.PROPAGATION_REQUIRED))).isEqualTo("PRIMARY");
+    }
+
+    @Test
+    void replicaMissIsFoundOnPrimary() {
+        lagMonitor.check();
+        // 주 DB 에만 반영된 예약 (대기 DB 적용 전)
+        primary.update("INSERT INTO BOOKING_ROW (BOOKING_NUM) VALUES (7)");
+
+        Integer onReplica = readOnly(TransactionDefinition.PROPAGATION_REQUIRED).execute(status ->
+                routed.queryForObject("SELECT COUNT(*) FROM BOOKING_ROW WHERE BOOKING_NUM = 7", Integer.class));
+        Integer onPrimary = readWrite(TransactionDefinition.PROPAGATION_REQUIRED).execute(status ->
+                routed.queryForObject("SELECT COUNT(*) FROM BOOKING_ROW WHERE BOOKING_NUM = 7", Integer.class));
+
+        assertThat(onReplica).isZero();
+        assertThat(onPrimary).isEqualTo(1);
+    }
+
+    private String roleIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> routed.queryForObject("SELECT NAME FROM DB_ROLE", String.class));
+    }
+
+    private TransactionTemplate readOnly(int propagation) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(propagation);
+        transaction.setReadOnly(true);
+        return transaction;
+    }
+
+    private TransactionTemplate readWrite(int propagation) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(propagation);
+        return transaction;
+    }
+
+    private static DataSource database(String role) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + role + "-" + UUID.randomUUID() + ";MODE=Oracle;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE DB_ROLE (NAME VARCHAR2(10))");
+        jdbcTemplate.update("INSERT INTO DB_ROLE VALUES (?)", role);
+        jdbcTemplate.execute("CREATE TABLE BOOKING_ROW (BOOKING_NUM NUMBER(19))");
+        return dataSource;
+    }
+}
@@ -0,0 +1,38 @@
+package fog.booking_service.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 스레드 모드 - 가상 스레드를 켰는데 Java 21 미만이면 플랫폼 모드로 조용히 넘어가지 않고 시작 실패
+ */
+class ThreadingConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ThreadingConfig.class);
+
+    @Test
+    void platformModeUsesContainerThread() {
+        contextRunner.run(context ->
+                assertThat(context.getBean("sqsListenerExecutor", TaskExecutor.class)).isInstanceOf(SyncTaskExecutor.class));
+    }
+
+    @Test
+    void virtualThreadsRequireJava21() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            if (Runtime.version().feature() >= 21) {
+                assertThat(context.getBean("sqsListenerExecutor", TaskExecutor.class)).isInstanceOf(VirtualThreadTaskExecutor.class);
+            } else {
+                assertThat(context).hasFailed();
+                assertThat(context.getStartupFailure()).rootCause()
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("JRE_VERSION=21");
+            }
+        });
+    }
+}
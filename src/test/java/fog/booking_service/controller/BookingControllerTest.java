@@ -0,0 +1,70 @@
+package fog.booking_service.controller;
+
+import fog.booking_service.config.CustomUserDetails;
+import fog.booking_service.dto.BookingResponse;
+import fog.booking_service.exception.AccessDeniedException;
+import fog.booking_service.service.BookingMetrics;
+import fog.booking_service.service.BookingQueryService;
+import fog.booking_service.service.BookingRequestSender;
+import fog.booking_service.service.BookingService;
+import fog.booking_service.service.BookingWaitlistService;
+import fog.booking_service.service.SoldOutSlotRegistry;
+import fog.booking_service.service.SseConnectionHub;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예약 상세 조회 - 대기 DB(BookingQueryService)에 없으면 주 DB(BookingService)에서 조회
+ */
+class BookingControllerTest {
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final BookingQueryService bookingQueryService = mock(BookingQueryService.class);
+    private final BookingController controller = new BookingController(bookingService, bookingQueryService,
+            mock(BookingRequestSender.class), mock(SseConnectionHub.class), mock(BookingMetrics.class),
+            mock(SoldOutSlotRegistry.class), mock(BookingWaitlistService.class));
+    private final CustomUserDetails user = new CustomUserDetails("user-1", "sub-1", List.of());
+
+    @Test
+    void replicaHitDoesNotQueryPrimary() {
+        when(bookingQueryService.findBookingResponse(1L)).thenReturn(Optional.of(booking(1L, "sub-1")));
+
+        assertThat(controller.findBooking(user, 1L).getBookingNum()).isEqualTo(1L);
+        verify(bookingService, never()).getBookingResponse(any());
+    }
+
+    @Test
+    void replicaMissFallsBackToPrimary() {
+        when(bookingQueryService.findBookingResponse(2L)).thenReturn(Optional.empty());
+        when(bookingService.getBookingResponse(2L)).thenReturn(booking(2L, "sub-1"));
+
+        assertThat(controller.findBooking(user, 2L).getBookingNum()).isEqualTo(2L);
+        verify(bookingService).getBookingResponse(2L);
+    }
+
+    @Test
+    void primaryResultIsStillOwnerChecked() {
+        when(bookingQueryService.findBookingResponse(3L)).thenReturn(Optional.empty());
+        when(bookingService.getBookingResponse(3L)).thenReturn(booking(3L, "sub-2"));
+
+        assertThatThrownBy(() -> controller.findBooking(user, 3L)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static BookingResponse booking(Long bookingNum, String userId) {
+        return BookingResponse.builder()
+                .bookingNum(bookingNum)
+                .userId(userId)
+                .bookingState("CONFIRMED")
+                .build();
+    }
+}
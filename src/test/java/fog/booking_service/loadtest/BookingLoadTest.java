@@ -0,0 +1,231 @@
+package fog.booking_service.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fog.booking_service.repositoroy.BookingRepository;
+import fog.booking_service.service.BookingStateCodeRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 전체 흐름 부하 테스트 (./gradlew loadTest)
+ * SSE 연결 -> POST /api/bookings/new -> SqsTemplate -> @SqsListener -> DB -> SSE 결과 수신까지를 사용자 1명당 1건씩 측정한다.
+ * 모든 요청은 hotSlots 개의 슬롯에 몰리며, 종료 후 슬롯별 확정 좌석 수가 전체 좌석 수를 넘으면 초과 예약으로 집계한다.
+ * 예약 요청마다 Idempotency-Key 를 보내며, loadtest.retries 만큼 같은 키로 다시 보내 중복 예약이 생기지 않는지 확인한다.
+ * 설정: -Dloadtest.users, -Dloadtest.concurrency, -Dloadtest.hot-slots, -Dloadtest.seats, -Dloadtest.count, -Dloadtest.retries
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@Import(LoadTestStubs.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BookingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLoadTest.class);
+
+    private static final String QUEUE = "BookingService.fifo";
+    private static final LocalDateTime SLOT_DATE = LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0);
+
+    private final int users = Integer.getInteger("loadtest.users", 500);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    private final int hotSlots = Integer.getInteger("loadtest.hot-slots", 3);
+    private final int seats = Integer.getInteger("loadtest.seats", 40);
+    private final int count = Integer.getInteger("loadtest.count", 2);
+    private final int retries = Integer.getInteger("loadtest.retries", 0);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @DynamicPropertySource
+    static void sqsEndpoint(DynamicPropertyRegistry registry) {
+        String endpoint = EmbeddedSqs.start(QUEUE);
+        registry.add("spring.cloud.aws.sqs.endpoint", () -> endpoint);
+    }
+
+    @Test
+    void bookingThroughput() throws Exception {
+        long[] latencies = new long[users];
+        Arrays.fill(latencies, -1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long startedAt = System.nanoTime();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                int user;
+                while ((user = next.getAndIncrement()) < users) {
+                    try {
+                        String result = book(user, latencies);
+                        switch (result) {
+                            case "success" -> success.incrementAndGet();
+                            case "failure-full" -> rejected.incrementAndGet();
+                            case "sold-out" -> soldOut.incrementAndGet();
+                            default -> errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        log.warn("예약 요청 실패: user={}, error={}", user, e.toString());
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        // 슬롯별 초과 예약 확인
+        int violations = 0;
+        int confirmedTotal = 0;
+        StringBuilder slots = new StringBuilder();
+        for (int slot = 0; slot < hotSlots; slot++) {
+            String storeId = "store-" + slot;
+            int confirmed = bookingRepository.sumCountByBookingDate(storeId, SLOT_DATE, BookingStateCodeRegistry.CONFIRMED);
+            confirmedTotal += confirmed;
+            if (confirmed > seats) {
+                violations++;
+            }
+            slots.append(slots.isEmpty() ? "" : ",")
+                    .append(String.format("{\"storeId\":\"%s\",\"confirmedSeats\":%d,\"seats\":%d}", storeId, confirmed, seats));
+        }
+
+        long[] measured = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        String report = String.format(
+                "{\"users\":%d,\"concurrency\":%d,\"retries\":%d,\"elapsedSeconds\":%.2f,\"bookingsPerSecond\":%.1f,\"resultsPerSecond\":%.1f,"
+                        + "\"success\":%d,\"rejectedFull\":%d,\"rejectedSoldOut\":%d,\"errors\":%d,\"p50Millis\":%.1f,\"p99Millis\":%.1f,"
+                        + "\"overbookedSlots\":%d,\"slots\":[%s]}",
+                users, concurrency, retries, elapsedSeconds, success.get() / elapsedSeconds, measured.length / elapsedSeconds,
+                success.get(), rejected.get(), soldOut.get(), errors.get(), percentile(measured, 0.50), percentile(measured, 0.99),
+                violations, slots);
+        log.info("부하 테스트 결과: {}", report);
+        Path reportFile = Path.of("build", "reports", "loadtest", "booking-load.json");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+
+        assertThat(violations).as("초과 예약 슬롯 수").isZero();
+        // 사용자당 예약 1건 - 결과를 받지 못한 요청(errors)도 예약되었을 수 있음
+        assertThat(confirmedTotal).as("확정 좌석 수 (중복 예약 없음)").isLessThanOrEqualTo((success.get() + errors.get()) * count);
+    }
+
+    /**
+     * 사용자 1명의 예약 1건 - SSE 연결 후 예약 요청을 보내고 결과 이벤트를 받을 때까지
+     * @return success, failure-full, sold-out, failure, timeout
+     */
+    private String book(int user, long[] latencies) throws IOException, InterruptedException {
+        String sub = UUID.nameUUIDFromBytes(("user-" + user).getBytes()).toString();
+        String token = LoadTestTokens.issue(sub, "user-" + user);
+
+        HttpResponse<Stream<String>> sse = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl() + "/api/bookings/booking-status/" + sub + "?token=" + token))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofLines());
+        try (Stream<String> lines = sse.body()) {
+            Iterator<String> events = lines.iterator();
+            // connect 이벤트를 받은 뒤(연결 등록 완료) 예약 요청
+            if (nextData(events) == null) {
+                return "failure";
+            }
+
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "storeId", "store-" + (user % hotSlots),
+                    "bookingDate", SLOT_DATE.toString(),
+                    "count", count,
+                    "seats", seats));
+            HttpRequest bookingRequest = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl() + "/api/bookings/new"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            long sentAt = System.nanoTime();
+            HttpResponse<String> accepted = httpClient.send(bookingRequest, HttpResponse.BodyHandlers.ofString());
+            // 클라이언트 재시도 (같은 키) - 응답은 확인하지 않음
+            for (int i = 0; i < retries; i++) {
+                httpClient.send(bookingRequest, HttpResponse.BodyHandlers.discarding());
+            }
+            if (accepted.statusCode() == 409) {
+                // 좌석 초과 슬롯 즉시 거절 (SQS 전송 없음)
+                return "sold-out";
+            }
+            if (accepted.statusCode() != 200) {
+                log.warn("예약 요청 거부: status={}, body={}", accepted.statusCode(), accepted.body());
+                return "failure";
+            }
+
+            String data = nextData(events);
+            if (data == null) {
+                return "timeout";
+            }
+            latencies[user] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt);
+            JsonNode result = objectMapper.readTree(data);
+            String status = result.path("status").asText();
+            if ("failure".equals(status) && result.path("message").asText().contains("초과")) {
+                return "failure-full";
+            }
+            return status;
+        }
+    }
+
+    private String nextData(Iterator<String> events) {
+        while (events.hasNext()) {
+            String line = events.next();
+            if (line.startsWith("data:")) {
+                return line.substring(5);
+            }
+        }
+        return null;
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,46 @@
+package fog.booking_service.loadtest;
+
+import org.elasticmq.rest.sqs.SQSRestServer;
+import org.elasticmq.rest.sqs.SQSRestServerBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 인프로세스 SQS 대역 (ElasticMQ) - 예약 요청 FIFO 큐를 만들어 두고 엔드포인트를 제공
+ * 캐시된 스프링 컨텍스트의 리스너가 끝까지 폴링하므로 테스트 JVM 종료 시까지 유지한다.
+ */
+public final class EmbeddedSqs {
+
+    private static SQSRestServer server;
+    private static String endpoint;
+
+    private EmbeddedSqs() {
+    }
+
+    public static synchronized String start(String fifoQueueName) {
+        if (server != null) {
+            return endpoint;
+        }
+        server = SQSRestServerBuilder.withInterface("localhost").withDynamicPort().start();
+        endpoint = "http://localhost:" + server.waitUntilStarted().localAddress().getPort();
+
+        try (SqsClient sqsClient = SqsClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(LoadTestTokens.REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("loadtest", "loadtest")))
+                .build()) {
+            sqsClient.createQueue(CreateQueueRequest.builder()
+                    .queueName(fifoQueueName)
+                    .attributes(Map.of(QueueAttributeName.FIFO_QUEUE, "true"))
+                    .build());
+        }
+        return endpoint;
+    }
+}
@@ -0,0 +1,112 @@
+package fog.booking_service.loadtest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminGetUserRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AdminGetUserResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.AttributeType;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 외부 서비스 대역 - 설정한 지연시간(loadtest.stub-latency-ms.*) 만큼 대기 후 고정 응답
+ */
+@TestConfiguration
+public class LoadTestStubs {
+
+    public static final int STORE_COUNT = 100;
+
+    @Bean
+    @Primary
+    public CognitoIdentityProviderClient stubCognitoClient(@Value("${loadtest.stub-latency-ms.cognito:20}") long latencyMillis) {
+        return new CognitoIdentityProviderClient() {
+            @Override
+            public AdminGetUserResponse adminGetUser(AdminGetUserRequest request) {
+                sleep(latencyMillis);
+                return AdminGetUserResponse.builder()
+                        .username(request.username())
+                        .userAttributes(AttributeType.builder().name("phone_number").value("+821000000000").build())
+                        .build();
+            }
+
+            @Override
+            public String serviceName() {
+                return "cognito-idp";
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Bean
+    @Primary
+    public SnsClient stubSnsClient(@Value("${loadtest.stub-latency-ms.sns:30}") long latencyMillis) {
+        return new SnsClient() {
+            @Override
+            public PublishResponse publish(PublishRequest request) {
+                sleep(latencyMillis);
+                return PublishResponse.builder().messageId(UUID.randomUUID().toString()).build();
+            }
+
+            @Override
+            public String serviceName() {
+                return "sns";
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Store Service 가게 목록과 Cognito JWKS 응답
+     */
+    @Bean
+    @Primary
+    public RestTemplate stubRestTemplate(@Value("${loadtest.stub-latency-ms.store-service:50}") long latencyMillis) {
+        return new RestTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T getForObject(String url, Class<T> responseType, Object... uriVariables) {
+                return (T) LoadTestTokens.jwks();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                                  ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+                sleep(latencyMillis);
+                List<Map<String, Object>> stores = new ArrayList<>(STORE_COUNT);
+                for (int i = 0; i < STORE_COUNT; i++) {
+                    stores.add(Map.of("storeId", "store-" + i, "storeName", "부하테스트 가게 " + i));
+                }
+                return (ResponseEntity<T>) ResponseEntity.ok(stores);
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
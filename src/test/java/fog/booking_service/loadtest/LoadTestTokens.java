@@ -0,0 +1,72 @@
+package fog.booking_service.loadtest;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 Cognito ID 토큰 발급 - 테스트 시작 시 만든 RSA 키로 서명하고 같은 키를 JWKS 로 제공
+ */
+public final class LoadTestTokens {
+
+    public static final String REGION = "ap-northeast-2";
+    public static final String USER_POOL_ID = "ap-northeast-2_loadtest";
+    public static final String CLIENT_ID = "loadtest-client";
+    private static final String KID = "loadtest-key";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final KeyPair KEY_PAIR = generateKeyPair();
+
+    private LoadTestTokens() {
+    }
+
+    public static String issue(String sub, String username) {
+        String header = encode("{\"kid\":\"" + KID + "\",\"alg\":\"RS256\"}");
+        String payload = encode("{\"sub\":\"" + sub + "\",\"cognito:username\":\"" + username + "\","
+                + "\"iss\":\"https://cognito-idp." + REGION + ".amazonaws.com/" + USER_POOL_ID + "\","
+                + "\"token_use\":\"id\",\"aud\":\"" + CLIENT_ID + "\",\"exp\":" + Instant.now().plusSeconds(3600).getEpochSecond() + "}");
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(KEY_PAIR.getPrivate());
+            signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+            return header + "." + payload + "." + ENCODER.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Map<String, Object> jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) KEY_PAIR.getPublic();
+        return Map.of("keys", List.of(Map.of(
+                "kid", KID, "kty", "RSA", "alg", "RS256", "use", "sig",
+                "n", ENCODER.encodeToString(unsigned(publicKey.getModulus())),
+                "e", ENCODER.encodeToString(unsigned(publicKey.getPublicExponent())))));
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 && bytes.length > 1 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
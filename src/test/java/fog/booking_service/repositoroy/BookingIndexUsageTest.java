@@ -0,0 +1,123 @@
+package fog.booking_service.repositoroy;
+
+import fog.booking_service.domain.BookingStateCode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/migration 으로 만든 스키마(H2 Oracle 모드)에서 예약 조회 쿼리가 인덱스를 타는지 확인
+ * Hibernate 가 실제로 만든 SQL 을 StatementInspector 로 받아 EXPLAIN - BOOKING 전체 스캔이 없어야 함
+ * 운영과 같은 OracleDialect + ddl-auto: validate 로 마이그레이션과 엔티티 매핑이 맞는지도 함께 확인 (schema 프로필)
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=fog.booking_service.repositoroy.BookingIndexUsageTest$CapturedSql")
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingIndexUsageTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 9, 1, 19, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository archiveRepository;
+
+    @Autowired
+    private BookingStateCodeRepository stateCodeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void slotOccupancyIsIndexOnly() throws SQLException {
+        assertUsesIndex(() -> bookingRepository.sumCountByBookingDate("store", DATE, 0),
+                "IX_BOOKING_SLOT_OCCUPANCY");
+        assertUsesIndex(() -> bookingRepository.sumCountGroupByBookingDate("store", DATE, DATE.plusDays(7), 0),
+                "IX_BOOKING_SLOT_OCCUPANCY");
+    }
+
+    @Test
+    void bookingListUsesUserIndex() throws SQLException {
+        assertUsesIndex(() -> bookingRepository.findBookingList("user", 0, Limit.of(20)),
+                "IX_BOOKING_USER_DATE");
+        assertUsesIndex(() -> bookingRepository.findBookingListAfter("user", null, DATE, 100L, Limit.of(20)),
+                "IX_BOOKING_USER_DATE");
+        assertUsesIndex(() -> archiveRepository.findBookingList("user", null, Limit.of(20)),
+                "IX_BOOKING_ARCHIVE_USER");
+        assertUsesIndex(() -> archiveRepository.findBookingListAfter("user", 2, DATE, 100L, Limit.of(20)),
+                "IX_BOOKING_ARCHIVE_USER");
+    }
+
+    @Test
+    void batchScansUseStateIndex() throws SQLException {
+        assertUsesIndex(() -> bookingRepository.findBookingNumsByStateCodeAndDateRange(0, DATE.minusHours(1), DATE, 0L, Limit.of(500)),
+                "IX_BOOKING_STATE_DATE");
+        assertUsesIndex(() -> bookingRepository.findArchiveCandidates(DATE.minusDays(1), DATE, List.of(1, 2), Limit.of(500)),
+                "IX_BOOKING_STATE_DATE");
+    }
+
+    @Test
+    void updatesByBookingNumUsePrimaryKey() throws SQLException {
+        BookingStateCode completed = stateCodeRepository.findById(2).orElseThrow();
+        assertUsesIndex(() -> bookingRepository.updateStateCode(List.of(1L, 2L), 0, completed), "PRIMARY_KEY");
+        assertUsesIndex(() -> bookingRepository.updateStateCodeByOwner(1L, "user", 0, completed), "PRIMARY_KEY");
+        assertUsesIndex(() -> bookingRepository.deleteArchived(List.of(1L, 2L), List.of(1, 2)), "PRIMARY_KEY");
+    }
+
+    /**
+     * call 이 실행한 마지막 SQL 의 실행 계획에 index 가 있고 BOOKING 전체 스캔이 없는지 확인
+     */
+    private void assertUsesIndex(Runnable call, String index) throws SQLException {
+        CapturedSql.STATEMENTS.clear();
+        call.run();
+        assertThat(CapturedSql.STATEMENTS).isNotEmpty();
+        String sql = CapturedSql.STATEMENTS.get(CapturedSql.STATEMENTS.size() - 1);
+
+        String plan = explain(sql);
+        assertThat(plan)
+                .as("%s%n-> %s", sql, plan)
+                .contains(index)
+                .doesNotContain("PUBLIC.BOOKING.tableScan")
+                .doesNotContain("PUBLIC.BOOKING_ARCHIVE.tableScan");
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1));
+            }
+            return plan.toString();
+        }
+    }
+
+    public static class CapturedSql implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.dto.BookingListResponse;
+import fog.booking_service.repositoroy.BookingArchiveRepository;
+import fog.booking_service.repositoroy.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 예약 보관 - BOOKING -> BOOKING_ARCHIVE 이동과 history=true 조회 병합, 작업 행 잠금, 청크 롤백 확인
+ * 예약 목록 - size/커서 없는 요청의 전체 목록 응답
+ */
+@DataJpaTest(properties = {
+        "booking.archive.chunk-size=2",
+        "booking.archive.chunk-pause-ms=0"
+})
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BookingArchiver.class, BookingQueryService.class, BookingStateCodeRegistry.class})
+class BookingArchiverTest {
+
+    private static final String USER = "user-1";
+    private static final LocalDateTime NOW = LocalDateTime.now(ZoneId.of("Asia/Seoul")).withNano(0);
+
+    @Autowired
+    private BookingArchiver archiver;
+
+    @Autowired
+    private BookingQueryService queryService;
+
+    @Autowired
+    private BookingStateCodeRegistry stateCodes;
+
+    @MockitoSpyBean
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository archiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private SeatAvailabilityCache seatAvailabilityCache;
+
+    private Long completed;
+    private Long canceled;
+    private Long olderCompleted;
+    private Long oldConfirmed;
+    private Long recentCompleted;
+
+    @BeforeEach
+    void setUp() {
+        olderCompleted = save(NOW.minusDays(200), BookingStateCodeRegistry.COMPLETED);
+        canceled = save(NOW.minusDays(150), BookingStateCodeRegistry.CANCELED);
+        completed = save(NOW.minusDays(100), BookingStateCodeRegistry.COMPLETED);
+        oldConfirmed = save(NOW.minusDays(120), BookingStateCodeRegistry.CONFIRMED);
+        recentCompleted = save(NOW.minusDays(10), BookingStateCodeRegistry.COMPLETED);
+    }
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM BOOKING_ARCHIVE");
+        jdbcTemplate.update("DELETE FROM BOOKING");
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_STATE");
+    }
+
+    @Test
+    void movesExpiredFinishedBookingsAndMergesHistory() {
+        assertThat(archiver.archive()).isEqualTo(3);
+
+        assertThat(bookingRepository.findAll()).extracting(Booking::getBookingNum)
+                .containsExactlyInAnyOrder(oldConfirmed, recentCompleted);
+        assertThat(archiveRepository.findAll()).hasSize(3);
+        assertThat(watermark()).isEqualTo(NOW.minusDays(100));
+
+        // history=false 는 BOOKING 만, history=true 는 보관 예약까지 예약 시각 내림차순으로 병합
+        assertThat(queryService.getBookingList(USER, null, null, null, 10, false))
+                .extracting(BookingListResponse::getBookingNum)
+                .containsExactly(recentCompleted, oldConfirmed);
+        assertThat(queryService.getBookingList(USER, null, null, null, 10, true))
+                .extracting(BookingListResponse::getBookingNum)
+                .containsExactly(recentCompleted, completed, oldConfirmed, canceled, olderCompleted);
+        assertThat(queryService.getBookingList(USER, "COMPLETED", null, null, 10, true))
+                .extracting(BookingListResponse::getBookingNum)
+                .containsExactly(recentCompleted, completed, olderCompleted);
+
+        // 커서 이후 페이지도 두 테이블을 같은 커서로 조회
+        assertThat(queryService.getBookingList(USER, null, NOW.minusDays(120), oldConfirmed, 2, true))
+                .extracting(BookingListResponse::getBookingNum)
+                .containsExactly(canceled, olderCompleted);
+        assertThat(queryService.findBookingResponse(completed)).isPresent();
+
+        // 다음 실행은 워터마크부터 - 옮길 예약 없음
+        assertThat(archiver.archive()).isZero();
+    }
+
+    @Test
+    void listWithoutSizeOrCursorIsUnpaged() {
+        ReflectionTestUtils.setField(queryService, "defaultBookingListPageSize", 2);
+        try {
+            // size, 커서 모두 없으면 기존 클라이언트처럼 전체 목록
+            assertThat(queryService.getBookingList(USER, null, null, null, null, false)).hasSize(5);
+            // 커서만 있으면 기본 페이지 크기
+            assertThat(queryService.getBookingList(USER, null, NOW.minusDays(10), recentCompleted, null, false))
+                    .extracting(BookingListResponse::getBookingNum)
+                    .containsExactly(completed, oldConfirmed);
+        } finally {
+            ReflectionTestUtils.setField(queryService, "defaultBookingListPageSize", 20);
+        }
+    }
+
+    @Test
+    void skipsRunWhileAnotherTaskHoldsJobLock() throws Exception {
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_STATE (JOB_NAME, WATERMARK) VALUES ('BOOKING_ARCHIVE', ?)",
+                LocalDateTime.of(1970, 1, 1, 0, 0));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherTask = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList("SELECT WATERMARK FROM BATCH_JOB_STATE WHERE JOB_NAME = 'BOOKING_ARCHIVE' FOR UPDATE");
+                    locked.countDown();
+                    await(release);
+                }));
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(archiver.archive()).isZero();
+        } finally {
+            release.countDown();
+            otherTask.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(archiveRepository.count()).isZero();
+        assertThat(archiver.archive()).isEqualTo(3);
+    }
+
+    @Test
+    void rollsBackMismatchedChunkAndContinues() {
+        // 첫 청크의 삭제 건수가 복사 건수와 다르게 보고되면 그 청크만 롤백
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<Long> bookingNums = invocation.getArgument(0);
+            int deleted = 0;
+            for (Long bookingNum : bookingNums) {
+                deleted += jdbcTemplate.update("DELETE FROM BOOKING WHERE BOOKING_NUM = ? AND BOOKING_STATE_CODE IN (1, 2)", bookingNum);
+            }
+            return calls.getAndIncrement() == 0 ? deleted - 1 : deleted;
+        }).when(bookingRepository).deleteArchived(anyList(), anyList());
+
+        assertThat(archiver.archive()).isEqualTo(3);
+
+        assertThat(archiveRepository.findAll()).hasSize(3);
+        assertThat(bookingRepository.findAll()).extracting(Booking::getBookingNum)
+                .containsExactlyInAnyOrder(oldConfirmed, recentCompleted);
+    }
+
+    private Long save(LocalDateTime bookingDate, int stateCode) {
+        return bookingRepository.saveAndFlush(Booking.builder()
+                .userId(USER)
+                .storeId("store-1")
+                .bookingDate(bookingDate)
+                .count(2)
+                .stateCode(stateCodes.get(stateCode))
+                .build()).getBookingNum();
+    }
+
+    private LocalDateTime watermark() {
+        return jdbcTemplate.queryForObject("SELECT WATERMARK FROM BATCH_JOB_STATE WHERE JOB_NAME = 'BOOKING_ARCHIVE'",
+                LocalDateTime.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.repositoroy.BatchJobStateRepository;
+import fog.booking_service.repositoroy.BookingRepository;
+import fog.booking_service.repositoroy.NotificationOutboxRepository;
+import fog.booking_service.repositoroy.SlotCapacityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 예약 수용 (ledger 모드) - 각자 오래된 좌석 원장을 가진 두 태스크가 같은 슬롯의 마지막 좌석을 함께 수용하지 않는지 확인
+ * 태스크마다 BookingService 와 원장을 따로 만들고, 원장은 자기 태스크의 변경 이벤트만 받음
+ */
+@DataJpaTest
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SlotCapacityAllocator.class, BookingStateCodeRegistry.class})
+class BookingServiceTest {
+
+    private static final SlotKey SLOT = new SlotKey("store-1", LocalDateTime.of(2030, 1, 1, 19, 0));
+    private static final int SEATS = 10;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private BatchJobStateRepository batchJobStateRepository;
+
+    @Autowired
+    private SlotCapacityRepository slotCapacityRepository;
+
+    @Autowired
+    private SlotCapacityAllocator slotCapacityAllocator;
+
+    @Autowired
+    private BookingStateCodeRegistry stateCodes;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Task taskA;
+    private Task taskB;
+
+    @BeforeEach
+    void setUp() {
+        taskA = new Task();
+        taskB = new Task();
+    }
+
+    @AfterEach
+    void clear() {
+        slotCapacityRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void staleLedgersOnTwoTasksDoNotOverbook() {
+        // 두 태스크 모두 빈 슬롯으로 원장 적재 (ttl 안에서는 다시 조회하지 않음)
+        assertThat(taskA.ledger.occupied(SLOT)).isZero();
+        assertThat(taskB.ledger.occupied(SLOT)).isZero();
+
+        assertThat(taskA.book(8)).isNotNull();
+
+        // 태스크 B 원장은 아직 0석 - 원장만 보면 수용되지만 SLOT_CAPACITY 차감에서 거절
+        assertThat(taskB.ledger.occupied(SLOT)).isZero();
+        assertThatThrownBy(() -> taskB.book(4)).isInstanceOf(IllegalStateException.class);
+        assertThat(taskB.book(2)).isNotNull();
+
+        assertThat(occupied()).isEqualTo(SEATS);
+        assertThatThrownBy(() -> taskA.book(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void concurrentBookingsOnTwoTasksNeverOverbook() throws Exception {
+        assertThat(taskA.ledger.occupied(SLOT)).isZero();
+        assertThat(taskB.ledger.occupied(SLOT)).isZero();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long admitted = 0;
+        try {
+            List<CompletableFuture<Boolean>> bookings = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        await(start);
+                        try {
+                            return (i % 2 == 0 ? taskA : taskB).book(3) != null;
+                        } catch (IllegalStateException e) {
+                            return false;
+                        }
+                    }, executor))
+                    .toList();
+            start.countDown();
+
+            for (CompletableFuture<Boolean> booking : bookings) {
+                if (booking.get()) {
+                    admitted++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted).isEqualTo(3);
+        assertThat(occupied()).isEqualTo(9);
+    }
+
+    @Test
+    void reconcileKeepsNewerLoad() {
+        assertThat(taskA.book(3)).isNotNull();
+
+        // 변경 이벤트는 적재된 원장에만 반영
+        assertThat(taskA.ledger.occupied(SLOT)).isEqualTo(3);
+        taskA.ledger.onOccupancyChanged(new SlotOccupancyChangedEvent(SLOT, 2));
+        assertThat(taskA.ledger.occupied(SLOT)).isEqualTo(5);
+        assertThat(taskA.ledger.reconcile(SLOT)).isEqualTo(3);
+        assertThat(taskA.ledger.occupied(SLOT)).isEqualTo(3);
+    }
+
+    private int occupied() {
+        return bookingRepository.sumCountByBookingDate(SLOT.storeId(), SLOT.bookingDate(), BookingStateCodeRegistry.CONFIRMED);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * ECS 태스크 하나 - 노드 로컬 원장과 그 원장만 갱신하는 BookingService
+     */
+    private class Task {
+
+        private final SeatOccupancyLedger ledger = new SeatOccupancyLedger(bookingRepository);
+        private final BookingService bookingService;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        private Task() {
+            ReflectionTestUtils.setField(ledger, "ttlMillis", 60_000L);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            bookingService = new BookingService(
+                    bookingRepository,
+                    stateCodes,
+                    outboxRepository,
+                    ledger,
+                    // 자기 태스크의 원장에만 반영 (커밋 후 이벤트 대신 바로 반영)
+                    event -> ledger.onOccupancyChanged((SlotOccupancyChangedEvent) event),
+                    (userId, result) -> { },
+                    batchJobStateRepository,
+                    transaction,
+                    new BookingMetrics(meterRegistry),
+                    slotCapacityAllocator,
+                    mock(SoldOutSlotRegistry.class),
+                    mock(BookingIdempotencyStore.class),
+                    mock(BookingWaitlistService.class));
+            ReflectionTestUtils.setField(bookingService, "admissionMode", "ledger");
+        }
+
+        private Booking book(int count) {
+            SQSBookingRequest request = new SQSBookingRequest();
+            request.setUserId("user-1");
+            request.setUserName("potato");
+            request.setStoreId(SLOT.storeId());
+            request.setBookingDate(SLOT.bookingDate());
+            request.setCount(count);
+            request.setSeats(SEATS);
+            return transaction.execute(status -> bookingService.makeBooking(request));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.BookingWaitlist;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.dto.SQSBookingRequest;
+import fog.booking_service.event.SlotOccupancyChangedEvent;
+import fog.booking_service.exception.BookingConflictException;
+import fog.booking_service.repositoroy.BookingWaitlistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 예약 대기열 등록/취소/승격/결과 반영 - 각 호출이 실제로 커밋되도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BookingWaitlistService.class)
+class BookingWaitlistServiceTest {
+
+    private static final SlotKey SLOT = new SlotKey("store-1", LocalDateTime.now().plusDays(1).withHour(19).withMinute(0).withSecond(0).withNano(0));
+
+    @Autowired
+    private BookingWaitlistService waitlistService;
+
+    @Autowired
+    private BookingWaitlistRepository waitlistRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private BookingRequestSender bookingRequestSender;
+
+    // @Scheduled reclaimExpiredOffers() 가 테스트 도중 실행되지 않도록 스케줄 실행 차단
+    @MockitoBean
+    private TaskScheduler taskScheduler;
+
+    @AfterEach
+    void clear() {
+        waitlistRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void joinKeepsOrderAndIgnoresDuplicate() {
+        join("user-a", 2);
+        join("user-b", 2);
+        Long first = entry("user-a").getWaitlistId();
+        join("user-a", 2);
+
+        // 중복 등록은 기존 항목(순번) 유지
+        assertThat(waitlistRepository.count()).isEqualTo(2);
+        assertThat(entry("user-a").getWaitlistId()).isEqualTo(first).isLessThan(entry("user-b").getWaitlistId());
+    }
+
+    @Test
+    void duplicateJoinDoesNotRollBackCallerTransaction() {
+        join("user-a", 2);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 중복 등록 뒤 같은 트랜잭션의 다음 등록도 커밋됨
+        transaction.executeWithoutResult(status -> {
+            waitlistService.join(request("user-a", 2));
+            waitlistService.join(request("user-b", 2));
+        });
+
+        assertThat(waitlistRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentJoinsBySameUserKeepOneEntry() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> joins = java.util.stream.IntStream.range(0, 4)
+                    .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                        await(start);
+                        transaction.executeWithoutResult(status -> waitlistService.join(request("user-a", 2)));
+                    }, executor))
+                    .toList();
+            start.countDown();
+
+            // 모두 예외 없이 완료
+            for (CompletableFuture<Void> join : joins) {
+                join.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(waitlistRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelOffersHeadEntriesWithinFreedSeatsAfterCommit() {
+        join("user-a", 2);
+        join("user-b", 2);
+        join("user-c", 2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -4));
+            // 커밋 전에는 전송하지 않음
+            verify(bookingRequestSender, never()).send(any(), anyString());
+        });
+
+        ArgumentCaptor<SQSBookingRequest> sent = ArgumentCaptor.forClass(SQSBookingRequest.class);
+        verify(bookingRequestSender, times(2)).send(sent.capture(), anyString());
+        assertThat(sent.getAllValues()).extracting(SQSBookingRequest::getUserId).containsExactly("user-a", "user-b");
+        assertThat(entry("user-a").getStatus()).isEqualTo(BookingWaitlist.OFFERED);
+        assertThat(entry("user-a").getOfferedAt()).isNotNull();
+        assertThat(entry("user-c").getStatus()).isEqualTo(BookingWaitlist.WAITING);
+    }
+
+    @Test
+    void rolledBackCancelDoesNotOffer() {
+        join("user-a", 2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -2));
+            status.setRollbackOnly();
+        });
+
+        verify(bookingRequestSender, never()).send(any(), anyString());
+        assertThat(entry("user-a").getStatus()).isEqualTo(BookingWaitlist.WAITING);
+    }
+
+    @Test
+    void resolveDeletesBookedAndRequeuesRejected() {
+        join("user-a", 2);
+        join("user-b", 2);
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -4));
+        Long booked = entry("user-a").getWaitlistId();
+        Long rejected = entry("user-b").getWaitlistId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(waitlistService.hold(booked)).isTrue();
+            waitlistService.resolve(booked, true);
+            waitlistService.resolve(rejected, false);
+        });
+
+        assertThat(waitlistRepository.findById(booked)).isEmpty();
+        assertThat(entry("user-b").getStatus()).isEqualTo(BookingWaitlist.WAITING);
+        assertThat(entry("user-b").getOfferedAt()).isNull();
+        assertThat(entry("user-b").getOffers()).isEqualTo(1);
+    }
+
+    @Test
+    void leftEntryIsNotBooked() {
+        join("user-a", 2);
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -2));
+        Long waitlistId = entry("user-a").getWaitlistId();
+
+        assertThat(waitlistService.leave(SLOT, "user-a")).isTrue();
+        assertThat(waitlistService.leave(SLOT, "user-a")).isFalse();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Boolean held = transaction.execute(status -> waitlistService.hold(waitlistId));
+        assertThat(held).isFalse();
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> waitlistService.resolve(waitlistId, true)))
+                .isInstanceOf(BookingConflictException.class);
+    }
+
+    @Test
+    void expiredOfferIsReclaimedAndOfferedAgain() {
+        join("user-a", 2);
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -2));
+        Long waitlistId = entry("user-a").getWaitlistId();
+        jdbcTemplate.update("UPDATE BOOKING_WAITLIST SET OFFERED_AT = ? WHERE WAITLIST_ID = ?",
+                LocalDateTime.now().minusHours(1), waitlistId);
+
+        waitlistService.reclaimExpiredOffers();
+
+        ArgumentCaptor<String> deduplicationIds = ArgumentCaptor.forClass(String.class);
+        verify(bookingRequestSender, times(2)).send(any(), deduplicationIds.capture());
+        assertThat(deduplicationIds.getAllValues()).containsExactly("waitlist-" + waitlistId + "-1", "waitlist-" + waitlistId + "-2");
+        assertThat(entry("user-a").getStatus()).isEqualTo(BookingWaitlist.OFFERED);
+        assertThat(entry("user-a").getOffers()).isEqualTo(2);
+    }
+
+    @Test
+    void activeOfferIsNotReclaimed() {
+        join("user-a", 2);
+        eventPublisher.publishEvent(new SlotOccupancyChangedEvent(SLOT, -2));
+        ReflectionTestUtils.setField(waitlistService, "offerLeaseMillis", 600_000L);
+
+        waitlistService.reclaimExpiredOffers();
+
+        verify(bookingRequestSender, times(1)).send(any(), anyString());
+        assertThat(entry("user-a").getOffers()).isEqualTo(1);
+    }
+
+    private void join(String userId, int count) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> waitlistService.join(request(userId, count)));
+    }
+
+    private BookingWaitlist entry(String userId) {
+        return waitlistRepository.findAll().stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SQSBookingRequest request(String userId, int count) {
+        SQSBookingRequest request = new SQSBookingRequest();
+        request.setStoreId(SLOT.storeId());
+        request.setBookingDate(SLOT.bookingDate());
+        request.setUserId(userId);
+        request.setUserName(userId);
+        request.setCount(count);
+        request.setSeats(10);
+        request.setWaitlist(true);
+        return request;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
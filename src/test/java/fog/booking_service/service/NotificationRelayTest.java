@@ -0,0 +1,126 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.domain.NotificationOutbox;
+import fog.booking_service.repositoroy.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 알림 아웃박스 발송 결과 반영 - 선점 토큰 조건부 삭제/실패 기록, LAST_ERROR 바이트 길이 제한
+ */
+@DataJpaTest(properties = "booking.notification.relay.backoff-ms=60000")
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(NotificationRelay.class)
+class NotificationRelayTest {
+
+    @Autowired
+    private NotificationRelay relay;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private MessageService messageService;
+
+    // @Scheduled relay() 가 테스트의 relay() 보다 먼저 선점하지 않도록 스케줄 실행 차단
+    @MockitoBean
+    private TaskScheduler taskScheduler;
+
+    @AfterEach
+    void clear() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deliveredNotificationIsDeleted() {
+        enqueue();
+
+        relay.relay();
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void failureIsRecordedWithByteLimitedError() {
+        Long outboxId = enqueue();
+        // 한글 한 글자 = UTF-8 3바이트 -> 500자는 1500바이트
+        doThrow(new IllegalStateException("가".repeat(500)))
+                .when(messageService).sendMessage(anyString(), any(), anyInt(), anyString());
+
+        relay.relay();
+
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElseThrow();
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutbox.PENDING);
+        assertThat(outbox.getClaimToken()).isNull();
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+        assertThat(outbox.getLastError()).isEqualTo("가".repeat(166));
+    }
+
+    @Test
+    void expiredClaimIsNotOverwritten() {
+        Long outboxId = enqueue();
+        // 발송 중 lease 가 지나 다른 태스크가 다시 선점
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE NOTIFICATION_OUTBOX SET CLAIM_TOKEN = 'other-task' WHERE OUTBOX_ID = ?", outboxId);
+            throw new IllegalStateException("timeout");
+        }).when(messageService).sendMessage(anyString(), any(), anyInt(), anyString());
+
+        relay.relay();
+
+        NotificationOutbox outbox = outboxRepository.findById(outboxId).orElseThrow();
+        assertThat(outbox.getClaimToken()).isEqualTo("other-task");
+        assertThat(outbox.getAttempts()).isZero();
+        assertThat(outbox.getLastError()).isNull();
+    }
+
+    @Test
+    void truncatesByUtf8Bytes() {
+        assertThat(NotificationRelay.truncateUtf8("abc", 500)).isEqualTo("abc");
+        assertThat(NotificationRelay.truncateUtf8("a가나", 5)).isEqualTo("a가");
+        assertThat(NotificationRelay.truncateUtf8("가".repeat(200), 500).getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(500);
+    }
+
+    private Long enqueue() {
+        Booking booking = Booking.builder()
+                .storeId("store-1")
+                .bookingDate(LocalDateTime.of(2030, 1, 1, 19, 0))
+                .userId("user-1")
+                .count(2)
+                .build();
+        booking.setBookingNum(1L);
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .booking(booking)
+                .userName("user-1")
+                .createdAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusSeconds(1))
+                .build();
+        return outboxRepository.saveAndFlush(outbox).getOutboxId();
+    }
+}
@@ -0,0 +1,139 @@
+package fog.booking_service.service;
+
+import fog.booking_service.domain.Booking;
+import fog.booking_service.domain.SlotKey;
+import fog.booking_service.repositoroy.BookingRepository;
+import fog.booking_service.repositoroy.BookingStateCodeRepository;
+import fog.booking_service.repositoroy.SlotCapacityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 잔여 좌석 차감/복원 - 행이 없는 슬롯에 동시에 예약이 몰려도 좌석을 초과하지 않는지 확인 (H2 Oracle 모드)
+ */
+@DataJpaTest
+@ActiveProfiles("schema")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SlotCapacityAllocator.class)
+class SlotCapacityAllocatorTest {
+
+    private static final SlotKey SLOT = new SlotKey("store-1", LocalDateTime.of(2030, 1, 1, 19, 0));
+    private static final int SEATS = 10;
+
+    @Autowired
+    private SlotCapacityAllocator allocator;
+
+    @Autowired
+    private SlotCapacityRepository slotCapacityRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingStateCodeRepository stateCodeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clear() {
+        slotCapacityRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentReservesOnNewSlotNeverOverbook() throws Exception {
+        // 슬롯 행이 생기기 전에 확정된 예약 2석
+        bookingRepository.saveAndFlush(Booking.builder()
+                .storeId(SLOT.storeId())
+                .bookingDate(SLOT.bookingDate())
+                .userId("existing")
+                .count(2)
+                .stateCode(stateCodeRepository.findById(BookingStateCodeRegistry.CONFIRMED).orElseThrow())
+                .build());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        long admitted;
+        try {
+            List<CompletableFuture<Boolean>> reserves = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        await(start);
+                        return transaction.execute(status -> allocator.reserve(SLOT, SEATS, 3));
+                    }, executor))
+                    .toList();
+            start.countDown();
+
+            admitted = 0;
+            for (CompletableFuture<Boolean> reserve : reserves) {
+                if (reserve.get()) {
+                    admitted++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(admitted).isEqualTo(2);
+        assertThat(allocator.remaining(SLOT, SEATS)).isEqualTo(2);
+        assertThat(slotCapacityRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseRestoresCapacity() {
+        assertThat(reserve(6)).isTrue();
+        assertThat(reserve(6)).isFalse();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> allocator.release(SLOT, 6));
+
+        assertThat(allocator.remaining(SLOT, SEATS)).isEqualTo(SEATS);
+        assertThat(reserve(6)).isTrue();
+        assertThat(allocator.remaining(SLOT, SEATS)).isEqualTo(4);
+    }
+
+    @Test
+    void rolledBackReserveKeepsCapacity() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            allocator.reserve(SLOT, SEATS, 4);
+            status.setRollbackOnly();
+        });
+
+        // 행 생성도 함께 롤백
+        assertThat(slotCapacityRepository.count()).isZero();
+        assertThat(allocator.remaining(SLOT, SEATS)).isEqualTo(SEATS);
+    }
+
+    private boolean reserve(int count) {
+        return Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> allocator.reserve(SLOT, SEATS, count)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package fog.booking_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fog.booking_service.dto.BookingResultNotice;
+import fog.booking_service.dto.BookingStatusMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicRequest;
+import software.amazon.awssdk.services.sns.model.ListSubscriptionsByTopicResponse;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.Subscription;
+import software.amazon.awssdk.services.sns.model.UnsubscribeRequest;
+import software.amazon.awssdk.services.sns.paginators.ListSubscriptionsByTopicIterable;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueueTagsResponse;
+import software.amazon.awssdk.services.sqs.model.ListQueuesRequest;
+import software.amazon.awssdk.services.sqs.model.ListQueuesResponse;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 중단된 태스크가 남긴 예약 결과 수신 큐/구독 정리, 결과 발행/수신 (여러 태스크에 연결된 사용자)
+ */
+class SnsBookingResultBusTest {
+
+    private static final String TOPIC_ARN = "arn:aws:sns:ap-northeast-2:123456789012:booking-results";
+    private static final String PREFIX = "booking-results-";
+    private static final long STALE_AFTER_MILLIS = 3_600_000;
+
+    private final SqsAsyncClient sqsAsyncClient = mock(SqsAsyncClient.class);
+    private final SnsClient snsClient = mock(SnsClient.class);
+    private final SseConnectionHub sseConnectionHub = mock(SseConnectionHub.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SnsBookingResultBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new SnsBookingResultBus(sseConnectionHub, sqsAsyncClient, snsClient, objectMapper);
+        ReflectionTestUtils.setField(bus, "topicArn", TOPIC_ARN);
+        ReflectionTestUtils.setField(bus, "queuePrefix", PREFIX);
+        ReflectionTestUtils.setField(bus, "staleAfterMillis", STALE_AFTER_MILLIS);
+
+        when(sqsAsyncClient.deleteQueue(any(DeleteQueueRequest.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(snsClient.listSubscriptionsByTopicPaginator(any(ListSubscriptionsByTopicRequest.class)))
+                .thenAnswer(invocation -> new ListSubscriptionsByTopicIterable(snsClient, invocation.getArgument(0)));
+        when(snsClient.listSubscriptionsByTopic(any(ListSubscriptionsByTopicRequest.class)))
+                .thenReturn(ListSubscriptionsByTopicResponse.builder()
+                        .subscriptions(subscription("stale"), subscription("live"), subscription("legacy-stale"))
+                        .build());
+    }
+
+    @Test
+    void deletesQueuesAndSubscriptionsWithoutRecentHeartbeat() {
+        long now = System.currentTimeMillis();
+        queues("stale", "live", "legacy-stale", "legacy-live");
+        queue("stale", Map.of("heartbeat-at", String.valueOf(now - STALE_AFTER_MILLIS - 1)), now - 2 * STALE_AFTER_MILLIS);
+        queue("live", Map.of("heartbeat-at", String.valueOf(now - 60_000)), now - 2 * STALE_AFTER_MILLIS);
+        // 태그 없는 이전 버전 큐는 생성 시각으로 판단
+        queue("legacy-stale", Map.of(), now - 2 * STALE_AFTER_MILLIS);
+        queue("legacy-live", Map.of(), now - 60_000);
+
+        bus.sweepStaleQueues();
+
+        verify(sqsAsyncClient).deleteQueue(DeleteQueueRequest.builder().queueUrl(url("stale")).build());
+        verify(sqsAsyncClient).deleteQueue(DeleteQueueRequest.builder().queueUrl(url("legacy-stale")).build());
+        verify(sqsAsyncClient, never()).deleteQueue(DeleteQueueRequest.builder().queueUrl(url("live")).build());
+        verify(sqsAsyncClient, never()).deleteQueue(DeleteQueueRequest.builder().queueUrl(url("legacy-live")).build());
+        verify(snsClient).unsubscribe(UnsubscribeRequest.builder().subscriptionArn(TOPIC_ARN + ":stale").build());
+        verify(snsClient).unsubscribe(UnsubscribeRequest.builder().subscriptionArn(TOPIC_ARN + ":legacy-stale").build());
+        verify(snsClient, never()).unsubscribe(UnsubscribeRequest.builder().subscriptionArn(TOPIC_ARN + ":live").build());
+    }
+
+    @Test
+    void sweepFailureDoesNotFailStartup() {
+        when(sqsAsyncClient.listQueues(any(ListQueuesRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("AccessDenied")));
+
+        bus.sweepStaleQueues();
+
+        verify(sqsAsyncClient, never()).deleteQueue(any(DeleteQueueRequest.class));
+    }
+
+    @Test
+    void publishesEvenWhenDeliveredLocally() throws Exception {
+        BookingStatusMessage result = new BookingStatusMessage("success", "예약이 성공적으로 완료되었습니다.", 1L);
+        when(sseConnectionHub.sendAndComplete("user-1", result)).thenReturn(true);
+
+        bus.publish("user-1", result);
+
+        // 같은 사용자가 다른 태스크에도 연결(다른 탭)되어 있을 수 있으므로 항상 발행
+        ArgumentCaptor<PublishRequest> published = ArgumentCaptor.forClass(PublishRequest.class);
+        verify(snsClient).publish(published.capture());
+        BookingResultNotice notice = objectMapper.readValue(published.getValue().message(), BookingResultNotice.class);
+        assertThat(notice.getUserId()).isEqualTo("user-1");
+        assertThat(notice.getOrigin()).isEqualTo(ReflectionTestUtils.getField(bus, "taskId"));
+    }
+
+    @Test
+    void skipsOwnEchoAndDeliversOtherTasksResults() {
+        BookingStatusMessage result = new BookingStatusMessage("success", "예약이 성공적으로 완료되었습니다.", 1L);
+
+        bus.deliver(new BookingResultNotice((String) ReflectionTestUtils.getField(bus, "taskId"), "user-1", result));
+        verify(sseConnectionHub, never()).sendAndComplete(eq("user-1"), any());
+
+        bus.deliver(new BookingResultNotice("other-task", "user-1", result));
+        verify(sseConnectionHub).sendAndComplete("user-1", result);
+    }
+
+    private void queues(String... tasks) {
+        String[] urls = new String[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            urls[i] = url(tasks[i]);
+        }
+        when(sqsAsyncClient.listQueues(any(ListQueuesRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(ListQueuesResponse.builder().queueUrls(urls).build()));
+    }
+
+    private void queue(String task, Map<String, String> tags, long createdAtMillis) {
+        when(sqsAsyncClient.listQueueTags(ListQueueTagsRequest.builder().queueUrl(url(task)).build()))
+                .thenReturn(CompletableFuture.completedFuture(ListQueueTagsResponse.builder().tags(tags).build()));
+        when(sqsAsyncClient.getQueueAttributes(GetQueueAttributesRequest.builder()
+                .queueUrl(url(task))
+                .attributeNames(QueueAttributeName.QUEUE_ARN, QueueAttributeName.CREATED_TIMESTAMP)
+                .build()))
+                .thenReturn(CompletableFuture.completedFuture(GetQueueAttributesResponse.builder()
+                        .attributes(Map.of(QueueAttributeName.QUEUE_ARN, arn(task),
+                                QueueAttributeName.CREATED_TIMESTAMP, String.valueOf(createdAtMillis / 1000)))
+                        .build()));
+    }
+
+    private static Subscription subscription(String task) {
+        return Subscription.builder()
+                .subscriptionArn(TOPIC_ARN + ":" + task)
+                .protocol("sqs")
+                .endpoint(arn(task))
+                .build();
+    }
+
+    private static String url(String task) {
+        return "https://sqs.ap-northeast-2.amazonaws.com/123456789012/" + PREFIX + task;
+    }
+
+    private static String arn(String task) {
+        return "arn:aws:sqs:ap-northeast-2:123456789012:" + PREFIX + task;
+    }
+}
@@ -0,0 +1,8 @@
+-- H2 Oracle 모드에 없는 Oracle 딕셔너리 뷰 - OracleDialect 가 시퀀스 검증(allocationSize = INCREMENT BY)에 조회
+-- Flyway 대상 스키마(PUBLIC)를 비워 두도록 별도 스키마에 만들고 검색 경로로 조회 (baseline-on-migrate 가 V1 을 건너뛰지 않음)
+CREATE SCHEMA IF NOT EXISTS ORACLE_DICTIONARY;
+CREATE VIEW IF NOT EXISTS ORACLE_DICTIONARY.ALL_SEQUENCES AS
+SELECT SEQUENCE_SCHEMA AS SEQUENCE_OWNER, SEQUENCE_NAME, MINIMUM_VALUE AS MIN_VALUE, MAXIMUM_VALUE AS MAX_VALUE,
+       INCREMENT AS INCREMENT_BY
+FROM INFORMATION_SCHEMA.SEQUENCES;
+SET SCHEMA_SEARCH_PATH PUBLIC, ORACLE_DICTIONARY;
@@ -0,0 +1,3 @@
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (0, 'CONFIRMED');
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (1, 'CANCELED');
+INSERT INTO BOOKING_STATE_CODE (BOOKING_STATE_CODE, STATE_NAME) VALUES (2, 'COMPLETED');